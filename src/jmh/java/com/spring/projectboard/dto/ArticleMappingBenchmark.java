@@ -0,0 +1,74 @@
+package com.spring.projectboard.dto;
+
+import com.spring.projectboard.domain.Article;
+import com.spring.projectboard.domain.AuditingFields;
+import com.spring.projectboard.domain.Hashtag;
+import com.spring.projectboard.domain.UserAccount;
+import com.spring.projectboard.dto.response.ArticleResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> DTO -> 응답 변환. 목록 화면은 ArticleSummaryDto, 상세/수정 화면은 ArticleDto 를 거침
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleMappingBenchmark {
+    @Param({"3", "30"})
+    private int hashtagCount;
+
+    private Article article;
+    private ArticleDto articleDto;
+    private ArticleSummaryDto articleSummaryDto;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        LocalDateTime now = LocalDateTime.now();
+        UserAccount userAccount = UserAccount.of("joo", "pw", "joo@mail.com", "Joo", "memo");
+        article = Article.of(userAccount, "title", "content");
+        setField(Article.class, article, "id", 1L);
+        setField(AuditingFields.class, article, "createdAt", now);
+        setField(AuditingFields.class, article, "modifiedAt", now);
+
+        Set<String> hashtagNames = new LinkedHashSet<>();
+        for (long i = 1; i <= hashtagCount; i++) {
+            Hashtag hashtag = Hashtag.of("hashtag" + i);
+            setField(Hashtag.class, hashtag, "id", i);
+            article.addHashtag(hashtag);
+            hashtagNames.add(hashtag.getHashtagName());
+        }
+        articleDto = ArticleDto.from(article);
+        articleSummaryDto = ArticleSummaryDto.of(1L, "title", "content", hashtagNames, now,
+                "joo", "joo@mail.com", "Joo", 10L, 100L);
+    }
+
+    @Benchmark
+    public ArticleDto articleDtoFromEntity() {
+        return ArticleDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleResponse articleResponseFromDto() {
+        return ArticleResponse.from(articleDto);
+    }
+
+    @Benchmark
+    public ArticleResponse articleResponseFromSummary() {
+        return ArticleResponse.from(articleSummaryDto);
+    }
+
+    private static void setField(Class<?> type, Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
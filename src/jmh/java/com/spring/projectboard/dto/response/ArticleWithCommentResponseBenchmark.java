@@ -0,0 +1,51 @@
+package com.spring.projectboard.dto.response;
+
+import com.spring.projectboard.dto.ArticleCommentDto;
+import com.spring.projectboard.dto.ArticleWithCommentsDto;
+import com.spring.projectboard.dto.UserAccountDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 트리 구성(organizeChildComments). 댓글의 10% 는 최상위 댓글, 나머지는 앞서 나온 임의의 댓글의 답글이며
+ * DB 조회 결과와 같이 부모가 항상 자식보다 먼저 나옴
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleWithCommentResponseBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int commentCount;
+
+    private ArticleWithCommentsDto articleWithCommentsDto;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        UserAccountDto userAccountDto = UserAccountDto.of("joo", "pw", "joo@mail.com", "Joo", "memo");
+
+        Set<ArticleCommentDto> comments = new LinkedHashSet<>();
+        int rootCount = Math.max(commentCount / 10, 1);
+        for (long id = 1; id <= commentCount; id++) {
+            Long parentCommentId = id <= rootCount ? null : 1L + random.nextInt((int) id - 1);
+            comments.add(ArticleCommentDto.of(id, 1L, userAccountDto, parentCommentId, "comment " + id,
+                    now, "joo", now, "joo"));
+        }
+        articleWithCommentsDto = ArticleWithCommentsDto.of(1L, "title", "content", Set.of(), userAccountDto,
+                comments, now, "joo", now, "joo");
+    }
+
+    @Benchmark
+    public ArticleWithCommentResponse organizeChildComments() {
+        return ArticleWithCommentResponse.from(articleWithCommentsDto);
+    }
+}
@@ -0,0 +1,35 @@
+package com.spring.projectboard.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록, 상세 화면을 그릴 때마다 호출되는 페이지 번호, 이전/다음 게시글 URI 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaginationServiceBenchmark {
+    private final PaginationService paginationService = new PaginationService();
+    private long articleId = 1L;
+
+    @Benchmark
+    public String articleUri() {
+        return paginationService.getArticleUri(articleId++);
+    }
+
+    @Benchmark
+    public String missingArticleUri() {
+        return paginationService.getArticleUri(null);
+    }
+
+    @Benchmark
+    public List<Integer> paginationBarNumbers() {
+        return paginationService.getPaginationBarNumbers(500, 1000);
+    }
+}
@@ -0,0 +1,67 @@
+package com.spring.projectboard.util;
+
+import com.spring.projectboard.service.HashtagService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 해시태그 파싱 비교. legacyRegex 는 기존 HashtagService 의 구현(호출마다 Pattern 컴파일),
+ * parseHashtagNames 는 게시글 저장, 수정마다 호출되는 현재 HashtagService 경로 (저장소는 사용하지 않으므로 null 로 생성)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashtagTokenizerBenchmark {
+    @Param({"200", "10000"})
+    private int contentLength;
+
+    private HashtagService hashtagService;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        hashtagService = new HashtagService(null, null);
+        String sentence = "스프링 부트로 만든 게시판입니다. #spring #부트 #java_17 본문 내용, ";
+        StringBuilder builder = new StringBuilder(contentLength);
+        while (builder.length() < contentLength) {
+            builder.append(sentence);
+        }
+        content = builder.substring(0, contentLength);
+    }
+
+    @Benchmark
+    public Set<String> legacyRegex() {
+        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
+        Matcher matcher = pattern.matcher(content);
+        Set<String> result = new HashSet<>();
+
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+
+        return Set.copyOf(result);
+    }
+
+    @Benchmark
+    public Set<String> precompiledRegex() {
+        return HashtagTokenizer.tokenizeWithRegex(content);
+    }
+
+    @Benchmark
+    public Set<String> scanner() {
+        return HashtagTokenizer.tokenize(content);
+    }
+
+    @Benchmark
+    public Set<String> parseHashtagNames() {
+        return hashtagService.parseHashtagNames(content);
+    }
+}
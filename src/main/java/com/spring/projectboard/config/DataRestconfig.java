@@ -4,20 +4,49 @@ import com.spring.projectboard.domain.Article;
 import com.spring.projectboard.domain.ArticleComment;
 import com.spring.projectboard.domain.Hashtag;
 import com.spring.projectboard.domain.UserAccount;
+import com.spring.projectboard.filter.ArticlePageableGuardFilter;
+import com.spring.projectboard.interceptor.ArticleConditionalGetInterceptor;
+import com.spring.projectboard.pageable.ArticlePageableGuard;
+import com.spring.projectboard.repository.ArticleRepository;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.web.servlet.handler.MappedInterceptor;
 
 @Configuration
 public class DataRestconfig {
     @Bean
-    public RepositoryRestConfigurer repositoryRestConfigurer() {
+    public RepositoryRestConfigurer repositoryRestConfigurer(ArticlePageableGuard.PageableGuardProperties pageableGuardProperties) {
         return RepositoryRestConfigurer.withConfig((config, cors) ->
                 config
+                        .setMaxPageSize(pageableGuardProperties.getMaxPageSize())
                         .exposeIdsFor(UserAccount.class)
                         .exposeIdsFor(Article.class)
                         .exposeIdsFor(ArticleComment.class)
                         .exposeIdsFor(Hashtag.class)
         );
     }
+
+    /**
+     * WebMvcConfigurer 로 등록한 인터셉터는 Spring Data REST 핸들러에 적용되지 않으므로 MappedInterceptor 빈으로 등록
+     */
+    @Bean
+    public MappedInterceptor articleConditionalGetInterceptor(ArticleRepository articleRepository) {
+        return new MappedInterceptor(
+                new String[]{"/api/articles/*"},
+                new ArticleConditionalGetInterceptor(articleRepository)
+        );
+    }
+
+    /**
+     * Spring Data REST 가 읽기 전에 sort 파라미터를 바꿔야 하므로 인터셉터가 아닌 필터로 등록
+     */
+    @Bean
+    public FilterRegistrationBean<ArticlePageableGuardFilter> articlePageableGuardFilter(ArticlePageableGuard articlePageableGuard) {
+        FilterRegistrationBean<ArticlePageableGuardFilter> registration =
+                new FilterRegistrationBean<>(new ArticlePageableGuardFilter(articlePageableGuard));
+        registration.addUrlPatterns("/api/articles", "/api/articles/search/*");
+        return registration;
+    }
 }
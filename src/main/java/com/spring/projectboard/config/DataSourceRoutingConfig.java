@@ -0,0 +1,136 @@
+package com.spring.projectboard.config;
+
+import com.spring.projectboard.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제 DB 로 분산 (datasource-routing.enabled=true 일 때만).
+ * 원본 DB 는 spring.datasource 설정을 그대로 사용
+ */
+@ConditionalOnProperty(name = "datasource-routing.enabled", havingValue = "true")
+@Configuration
+public class DataSourceRoutingConfig {
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            DataSourceRoutingProperties dataSourceRoutingProperties
+    ) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaProperties replica : dataSourceRoutingProperties.getReplicas()) {
+            DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword());
+            String driverClassName = replica.getDriverClassName() == null
+                    ? dataSourceProperties.getDriverClassName()
+                    : replica.getDriverClassName();
+            if (driverClassName != null) {
+                builder.driverClassName(driverClassName);
+            }
+            HikariDataSource dataSource = builder.build();
+            dataSource.setPoolName(replica.getName());
+            // 복제 DB 가 내려가 있어도 기동은 되도록 하고 상태 확인에서 제외함
+            dataSource.setInitializationFailTimeout(-1);
+            // 상태 확인이 기본값(30초)만큼 연결을 기다리며 스케줄러를 붙잡지 않도록 짧게 둠
+            dataSource.setConnectionTimeout(dataSourceRoutingProperties.getReplicaConnectionTimeout().toMillis());
+            dataSource.setReadOnly(true);
+            replicas.put(replica.getName(), dataSource);
+        }
+
+        return new ReadWriteRoutingDataSource(
+                primary,
+                replicas,
+                dataSourceRoutingProperties.getMaxLag(),
+                dataSourceRoutingProperties.getLagQuery()
+        );
+    }
+
+    /**
+     * 실제 연결은 첫 쿼리를 실행할 때 가져오므로 그 시점의 트랜잭션 읽기 전용 여부로 DB 를 고름
+     */
+    @Primary
+    @Bean
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("datasource-routing")
+    public static class DataSourceRoutingProperties {
+        private final boolean enabled;
+        private final List<ReplicaProperties> replicas;
+        /**
+         * 복제 DB 연결, 복제 지연 확인 주기
+         */
+        private final Duration healthCheckInterval;
+        /**
+         * 허용할 최대 복제 지연. 넘으면 읽기 전용 트랜잭션도 원본 DB 를 사용
+         */
+        private final Duration maxLag;
+        /**
+         * 복제 지연(초) 조회 쿼리 (MariaDB: SHOW SLAVE STATUS). 비어있으면 연결만 확인
+         */
+        private final String lagQuery;
+        /**
+         * 복제 DB 커넥션 풀에서 연결을 기다리는 최대 시간 (Hikari 최소값 250ms)
+         */
+        private final Duration replicaConnectionTimeout;
+
+        public DataSourceRoutingProperties(
+                @DefaultValue("false") boolean enabled,
+                List<ReplicaProperties> replicas,
+                @DefaultValue("5s") Duration healthCheckInterval,
+                @DefaultValue("10s") Duration maxLag,
+                String lagQuery,
+                @DefaultValue("2s") Duration replicaConnectionTimeout
+        ) {
+            this.enabled = enabled;
+            this.replicas = replicas == null ? List.of() : replicas;
+            this.healthCheckInterval = healthCheckInterval;
+            this.maxLag = maxLag;
+            this.lagQuery = lagQuery;
+            this.replicaConnectionTimeout = replicaConnectionTimeout;
+        }
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    public static class ReplicaProperties {
+        /**
+         * 커넥션 풀, 로그에 표시할 이름
+         */
+        private final String name;
+        private final String url;
+        private final String username;
+        private final String password;
+        /**
+         * 비어있으면 spring.datasource.driver-class-name, 그것도 없으면 url 로 판단
+         */
+        private final String driverClassName;
+    }
+}
@@ -0,0 +1,73 @@
+package com.spring.projectboard.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine). 영역별 최대 개수와 TTL 은 entity-cache.regions 설정을 따름
+ */
+@Configuration
+public class EntityCacheConfig {
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(EntityCacheProperties entityCacheProperties) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(
+                cachingProvider.getDefaultURI(), EntityCacheConfig.class.getClassLoader());
+
+        entityCacheProperties.getRegions().forEach((region, regionProperties) -> {
+            if (cacheManager.getCache(region) != null) {
+                return;
+            }
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(regionProperties.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(regionProperties.getTimeToLive().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("entity-cache")
+    public static class EntityCacheProperties {
+        /**
+         * 2차 캐시 영역 이름별 설정
+         */
+        private final Map<String, RegionProperties> regions;
+
+        @RequiredArgsConstructor
+        @Getter
+        public static class RegionProperties {
+            /**
+             * 영역에 보관할 최대 엔티티(컬렉션) 수
+             */
+            private final long maximumSize;
+            /**
+             * 저장 후 만료까지의 시간
+             */
+            private final Duration timeToLive;
+        }
+    }
+}
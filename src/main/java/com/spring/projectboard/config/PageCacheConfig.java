@@ -0,0 +1,67 @@
+package com.spring.projectboard.config;
+
+import com.spring.projectboard.filter.AnonymousPageCacheFilter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 비로그인 사용자 목록 화면 캐시 (page-cache.enabled=true 일 때만)
+ */
+@ConditionalOnProperty(name = "page-cache.enabled", havingValue = "true")
+@Configuration
+public class PageCacheConfig {
+    @Bean
+    public AnonymousPageCacheFilter anonymousPageCacheFilter(PageCacheProperties pageCacheProperties) {
+        return new AnonymousPageCacheFilter(
+                pageCacheProperties.getPaths(),
+                pageCacheProperties.getTtl(),
+                pageCacheProperties.getMaximumSize(),
+                pageCacheProperties.getWaitTimeout()
+        );
+    }
+
+    /**
+     * 인증 정보가 채워진 뒤에 동작하도록 Spring Security 필터 바로 다음 순서로 등록
+     */
+    @Bean
+    public FilterRegistrationBean<AnonymousPageCacheFilter> anonymousPageCacheFilterRegistration(
+            AnonymousPageCacheFilter anonymousPageCacheFilter) {
+        FilterRegistrationBean<AnonymousPageCacheFilter> registration = new FilterRegistrationBean<>(anonymousPageCacheFilter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("page-cache")
+    public static class PageCacheProperties {
+        private final boolean enabled;
+        /**
+         * 캐싱할 경로 (쿼리 문자열 제외, 쿼리 문자열은 캐시 키에 포함)
+         */
+        private final Set<String> paths;
+        /**
+         * 캐싱 후 만료까지의 시간
+         */
+        private final Duration ttl;
+        /**
+         * 캐싱할 최대 페이지 수 (초과하면 적게 사용된 페이지부터 제거)
+         */
+        private final long maximumSize;
+        /**
+         * 같은 페이지를 렌더링 중인 요청을 기다리는 최대 시간
+         */
+        private final Duration waitTimeout;
+    }
+}
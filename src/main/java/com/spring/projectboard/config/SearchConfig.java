@@ -0,0 +1,61 @@
+package com.spring.projectboard.config;
+
+import com.spring.projectboard.repository.ArticleRepository;
+import com.spring.projectboard.search.ArticleSearchEngine;
+import com.spring.projectboard.search.DatabaseArticleSearchEngine;
+import com.spring.projectboard.search.LuceneArticleSearchEngine;
+import com.spring.projectboard.service.ArticleCountCache;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class SearchConfig {
+    @Bean
+    @ConditionalOnProperty(name = "search.engine", havingValue = "database", matchIfMissing = true)
+    public ArticleSearchEngine databaseArticleSearchEngine(
+            ArticleRepository articleRepository,
+            ArticleCountCache articleCountCache
+    ) {
+        return new DatabaseArticleSearchEngine(articleRepository, articleCountCache);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+    public ArticleSearchEngine luceneArticleSearchEngine(
+            SearchProperties searchProperties,
+            ArticleRepository articleRepository
+    ) throws IOException {
+        return new LuceneArticleSearchEngine(
+                Path.of(searchProperties.getIndexPath()),
+                articleRepository,
+                searchProperties.isRebuildOnStartup()
+        );
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("search")
+    public static class SearchProperties {
+        /**
+         * 제목, 본문 검색 엔진 (database, lucene)
+         */
+        private final String engine;
+        /**
+         * Lucene 색인 디렉토리
+         */
+        private final String indexPath;
+        /**
+         * 기동 시 Lucene 색인을 DB 의 전체 게시글로 다시 생성 (기본은 마지막 커밋 이후 수정된 게시글만 다시 색인)
+         */
+        private final boolean rebuildOnStartup;
+    }
+}
@@ -1,10 +1,16 @@
 package com.spring.projectboard.config;
 
 import com.spring.projectboard.dto.security.BoardPrincipal;
+import com.spring.projectboard.dto.security.BoardPrincipal.RoleType;
 import com.spring.projectboard.dto.security.KakaoOauth2Response;
 import com.spring.projectboard.service.UserAccountService;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -19,9 +25,11 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
+@EnableConfigurationProperties(SecurityConfig.AdminProperties.class)
 @Configuration
 public class SecurityConfig {
     @Bean
@@ -32,6 +40,7 @@ public class SecurityConfig {
         return http
                 .authorizeRequests(auth -> auth
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
+                        .mvcMatchers("/api/export/**").hasRole(RoleType.ADMIN.name())
                         .mvcMatchers("/api/**").permitAll()
                         .mvcMatchers(
                                 HttpMethod.GET,
@@ -58,16 +67,17 @@ public class SecurityConfig {
     }
 
     @Bean
-    public UserDetailsService userDetailsService(UserAccountService userAccountService) {
+    public UserDetailsService userDetailsService(UserAccountService userAccountService, AdminProperties adminProperties) {
         return username -> userAccountService
                 .searchUser(username)
-                .map(BoardPrincipal::from)
+                .map(dto -> BoardPrincipal.from(dto, adminProperties.roleTypesOf(dto.userId())))
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다. - username: " + username));
     }
 
     @Bean
     public OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService(
             UserAccountService userAccountService,
+            AdminProperties adminProperties,
             PasswordEncoder passwordEncoder
     ) {
         final DefaultOAuth2UserService delegate = new DefaultOAuth2UserService();
@@ -78,20 +88,20 @@ public class SecurityConfig {
             String registrationId = userRequest.getClientRegistration().getRegistrationId();
             String providerId = String.valueOf(kakaoResponse.id());
             String username = registrationId + "_" + providerId;
-            String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
 
-            //회원이 존재하지 않는다면 해당 회원을 저장
+            //회원이 존재하지 않는다면 해당 회원을 저장. 비밀번호 해싱은 비용이 크므로 새 회원일 때만 수행
             return userAccountService.searchUser(username)
-                    .map(BoardPrincipal::from)
+                    .map(dto -> BoardPrincipal.from(dto, adminProperties.roleTypesOf(username)))
                     .orElseGet(() ->
                             BoardPrincipal.from(
                                     userAccountService.saveUser(
                                             username,
-                                            dummyPassword,
+                                            passwordEncoder.encode("{bcrypt}" + UUID.randomUUID()),
                                             kakaoResponse.email(),
                                             kakaoResponse.nickname(),
                                             null
-                                    )
+                                    ),
+                                    adminProperties.roleTypesOf(username)
                             ));
         };
     }
@@ -100,4 +110,22 @@ public class SecurityConfig {
     public PasswordEncoder passwordEncoder() {
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("admin")
+    public static class AdminProperties {
+        /**
+         * 관리자 권한(ROLE_ADMIN)을 줄 회원 ID. 데이터 내보내기(/api/export/**)는 관리자만 호출할 수 있음
+         */
+        private final Set<String> userIds;
+
+        public AdminProperties(@DefaultValue Set<String> userIds) {
+            this.userIds = userIds;
+        }
+
+        public Set<RoleType> roleTypesOf(String userId) {
+            return userIds.contains(userId) ? Set.of(RoleType.USER, RoleType.ADMIN) : Set.of(RoleType.USER);
+        }
+    }
 }
@@ -5,16 +5,11 @@ import com.spring.projectboard.request.ArticleCommentRequest;
 import com.spring.projectboard.service.ArticleCommentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.util.UriComponentsBuilder;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,16 +21,14 @@ public class ArticleCommentController {
     @PostMapping("/new")
     public String postNewComment(
             ArticleCommentRequest articleCommentRequest,
-            @RequestParam int articleIndex,
-            @PageableDefault(size=10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @AuthenticationPrincipal BoardPrincipal boardPrincipal) {
         Long articleCommentId = articleCommentService.saveComment(articleCommentRequest.toDto(boardPrincipal.toDto()));
+        //답글은 답글이 속한 최상위 댓글의 답글을 펼친 상태로 이동 (답글의 답글도 최상위 댓글 스레드에 보임)
+        String thread = articleCommentRequest.parentCommentId() == null || articleCommentId == null
+                ? ""
+                : "?thread=" + articleCommentService.getThreadId(articleCommentId);
 
-        return UriComponentsBuilder.newInstance()
-                .path("redirect:/articles/detail")
-                .queryParam("articleIndex", articleIndex)
-                .queryParam("page", pageable.getPageNumber())
-                .build().toUriString() + "#comment" + articleCommentId;
+        return "redirect:/articles/" + articleCommentRequest.articleId() + thread + "#comment" + articleCommentId;
     }
 
     @PostMapping("{commentId}/delete")
@@ -1,11 +1,19 @@
 package com.spring.projectboard.controller;
 
 import com.spring.projectboard.domain.constant.FormStatus;
+import com.spring.projectboard.domain.constant.HashtagMatchMode;
 import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleCursor;
+import com.spring.projectboard.dto.ArticleVersionDto;
+import com.spring.projectboard.dto.ArticleWithCommentsDto;
+import com.spring.projectboard.dto.HashtagCountDto;
+import com.spring.projectboard.dto.response.ArticleCommentResponse;
 import com.spring.projectboard.dto.response.ArticleResponse;
 import com.spring.projectboard.dto.response.ArticleWithCommentResponse;
 import com.spring.projectboard.dto.security.BoardPrincipal;
+import com.spring.projectboard.pageable.ArticlePageableGuard;
 import com.spring.projectboard.request.ArticleRequest;
+import com.spring.projectboard.service.ArticleCommentService;
 import com.spring.projectboard.service.ArticleService;
 import com.spring.projectboard.service.HashtagService;
 import com.spring.projectboard.service.PaginationService;
@@ -13,19 +21,25 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpSession;
 
 import java.util.List;
 
 /**
  * /articles
  * /articles/{article-id}
+ * /articles/{article-id}/form
  * /articles/search
  * /articles/search-hashtag
  */
@@ -34,16 +48,32 @@ import java.util.List;
 @RequestMapping("/articles")
 @Controller
 public class ArticleController {
+    private static final int HASHTAG_CLOUD_SIZE = 50;
+    private static final int COMMENT_PAGE_SIZE = 20;
+    private static final int REPLY_PAGE_SIZE = 20;
+
     private final HashtagService hashtagService;
     private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
     private final PaginationService paginationService;
+    private final ArticlePageableGuard articlePageableGuard;
+
+    /**
+     * sort=trending 이면 검색 조건과 관계없이 인기 게시글 순위로 조회.
+     * 정렬 키, 페이지 크기는 ArticlePageableGuard 가 인덱스로 정렬할 수 있는 범위로 제한
+     */
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(defaultValue = "ALL") HashtagMatchMode hashtagMatch,
             @PageableDefault(size=10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             Model model) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+        pageable = articlePageableGuard.guard(pageable);
+        Page<ArticleResponse> articles = (pageable.getSort().getOrderFor(ArticlePageableGuard.TRENDING_SORT) != null
+                ? articleService.getTrendingArticles(pageable)
+                : articleService.searchArticles(searchType, searchValue, hashtagMatch, pageable)
+        ).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         model.addAttribute("articles", articles);
@@ -53,20 +83,62 @@ public class ArticleController {
         return "articles/index";
     }
 
-    @GetMapping("/detail")
+    /**
+     * 커서 기반 게시글 리스트. 첫 페이지는 비어있는 cursor 로 요청
+     */
+    @GetMapping(params = "cursor")
+    public String articlesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Model model) {
+        Slice<ArticleResponse> articles = articleService.searchArticlesByCursor(cursor, articlePageableGuard.clampSize(size))
+                .map(ArticleResponse::from);
+
+        model.addAttribute("articles", articles);
+        model.addAttribute("cursorPaging", true);
+        model.addAttribute("nextCursor", nextCursor(articles));
+        model.addAttribute("searchTypes", SearchType.values());
+
+        return "articles/index";
+    }
+
+    /**
+     * 최상위 댓글은 commentCursor 다음부터 COMMENT_PAGE_SIZE 개씩 보여줌.
+     * thread 로 지정한 최상위 댓글 하나만 답글을 replyCursor 다음부터 REPLY_PAGE_SIZE 개씩 펼침.
+     * 브라우저가 가진 화면이 최신이면(If-None-Match, If-Modified-Since) 게시글, 댓글을 읽지 않고 304 를 반환
+     */
+    @GetMapping("/{articleId}")
     public String article(
-            @RequestParam int articleIndex,
-            @PageableDefault(size=10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String commentCursor,
+            @RequestParam(required = false) Long thread,
+            @RequestParam(required = false) String replyCursor,
+            ServletWebRequest webRequest,
             Model model) {
-        ArticleWithCommentResponse article = ArticleWithCommentResponse.from(
-                articleService.getArticleWithCommentsDtoByPageIndex(articleIndex, pageable)
-        );
+        ArticleVersionDto version = articleService.getArticleVersion(articleId);
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (webRequest.checkNotModified(version.detailEtag(viewer(webRequest)), version.lastModifiedMillis())) {
+            articleService.increaseViewCount(articleId);
+            return null;
+        }
+
+        ArticleWithCommentsDto dto = articleService.getArticleWithComments(articleId, commentCursor, COMMENT_PAGE_SIZE);
+        ArticleWithCommentResponse article = ArticleWithCommentResponse.from(dto);
+        articleService.increaseViewCount(articleId);
+
         model.addAttribute("article", article);
         model.addAttribute("articleComments", article.articleCommentResponses());
-        model.addAttribute("pageNumber", pageable.getPageNumber());
-        model.addAttribute("articleIndex", articleIndex);
-        model.addAttribute("prevUri", paginationService.getPreviousUri(articleIndex, pageable));
-        model.addAttribute("nextUri", paginationService.getNextUri(articleIndex, pageable, articleService.getArticleCount()));
+        model.addAttribute("commentCursor", commentCursor);
+        model.addAttribute("nextCommentCursor", dto.hasMoreComments() ? nextCommentCursor(article) : null);
+        if (thread != null) {
+            Slice<ArticleCommentResponse> replies = articleCommentService.getReplies(thread, replyCursor, REPLY_PAGE_SIZE)
+                    .map(ArticleCommentResponse::from);
+            model.addAttribute("threadId", thread);
+            model.addAttribute("threadReplies", replies.getContent());
+            model.addAttribute("nextReplyCursor", nextReplyCursor(replies));
+        }
+        model.addAttribute("prevUri", paginationService.getArticleUri(version.previousArticleId()));
+        model.addAttribute("nextUri", paginationService.getArticleUri(version.nextArticleId()));
 
         return "articles/detail";
     }
@@ -76,9 +148,10 @@ public class ArticleController {
             @RequestParam(required = false) String searchValue,
             @PageableDefault Pageable pageable,
             Model model) {
-        Page<ArticleResponse> articles = articleService.searchArticleDtosViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+        pageable = articlePageableGuard.guard(pageable);
+        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-        List<String> hashtags = hashtagService.getHashtags();
+        List<HashtagCountDto> hashtags = hashtagService.getPopularHashtags(HASHTAG_CLOUD_SIZE);
 
         model.addAttribute("articles", articles);
         model.addAttribute("hashtags", hashtags);
@@ -106,12 +179,9 @@ public class ArticleController {
         return "redirect:/articles";
     }
 
-    @GetMapping("/detail/form")
-    public String updateArticle(
-            @RequestParam int articleIndex,
-            @PageableDefault(size=10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            Model model) {
-        ArticleResponse article = ArticleResponse.from(articleService.getArticleDtoByPageIndex(articleIndex, pageable));
+    @GetMapping("/{articleId}/form")
+    public String updateArticle(@PathVariable Long articleId, Model model) {
+        ArticleResponse article = ArticleResponse.from(articleService.getArticle(articleId));
 
         model.addAttribute("article", article);
         model.addAttribute("formStatus", FormStatus.UPDATE);
@@ -119,21 +189,13 @@ public class ArticleController {
         return "articles/form";
     }
 
-    @PostMapping("/detail/form")
+    @PostMapping("/{articleId}/form")
     public String postUpdateArticle(
+            @PathVariable Long articleId,
             ArticleRequest articleRequest,
-            @RequestParam int articleIndex,
-            @PageableDefault(size=10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @AuthenticationPrincipal BoardPrincipal boardPrincipal) {
-        articleService.updateArticle(
-                articleService.getArticleByPageIndex(articleIndex, pageable).getId(),
-                articleRequest.toDto(boardPrincipal.toDto())
-        );
-        return UriComponentsBuilder.newInstance()
-                .path("redirect:/articles/detail")
-                .queryParam("articleIndex", articleIndex)
-                .queryParam("page", pageable.getPageNumber())
-                .build().toUriString();
+        articleService.updateArticle(articleId, articleRequest.toDto(boardPrincipal.toDto()));
+        return "redirect:/articles/" + articleId;
     }
 
     @PostMapping("{articleId}/delete")
@@ -143,4 +205,36 @@ public class ArticleController {
         articleService.deleteArticle(articleId, boardPrincipal.getUsername());
         return "redirect:/articles";
     }
+
+    /**
+     * 화면의 수정/삭제 버튼, CSRF 토큰이 사용자, 세션마다 다르므로 검증값에 포함
+     */
+    private String viewer(ServletWebRequest webRequest) {
+        HttpSession session = webRequest.getRequest().getSession(false);
+        return webRequest.getRemoteUser() + ":" + (session == null ? "" : session.getId());
+    }
+
+    private String nextCursor(Slice<ArticleResponse> articles) {
+        if (!articles.hasNext()) {
+            return null;
+        }
+        ArticleResponse last = articles.getContent().get(articles.getNumberOfElements() - 1);
+        return ArticleCursor.of(last.createdAt(), last.id()).encode();
+    }
+
+    private String nextCommentCursor(ArticleWithCommentResponse article) {
+        ArticleCommentResponse last = null;
+        for (ArticleCommentResponse comment : article.articleCommentResponses()) {
+            last = comment;
+        }
+        return last == null ? null : ArticleCursor.of(last.createdAt(), last.id()).encode();
+    }
+
+    private String nextReplyCursor(Slice<ArticleCommentResponse> replies) {
+        if (!replies.hasNext()) {
+            return null;
+        }
+        ArticleCommentResponse last = replies.getContent().get(replies.getNumberOfElements() - 1);
+        return ArticleCursor.of(last.createdAt(), last.id()).encode();
+    }
 }
@@ -0,0 +1,65 @@
+package com.spring.projectboard.controller;
+
+import com.spring.projectboard.domain.constant.ExportFormat;
+import com.spring.projectboard.service.ArticleExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관용 전체 내보내기. 페이지 단위 API 대신 응답 스트림에 한 행씩 바로 씀
+ * 예) GET /api/export/articles?format=CSV&gzip=true
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/export")
+@Controller
+public class ExportController {
+    private final ArticleExportService articleExportService;
+
+    @GetMapping("/articles")
+    public void articles(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        try (OutputStream outputStream = openOutputStream(response, "articles", format, gzip)) {
+            articleExportService.exportArticles(format, outputStream);
+        }
+    }
+
+    @GetMapping("/article-comments")
+    public void articleComments(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        try (OutputStream outputStream = openOutputStream(response, "article-comments", format, gzip)) {
+            articleExportService.exportArticleComments(format, outputStream);
+        }
+    }
+
+    /**
+     * gzip 이면 압축 파일(.gz)로 내려받도록 하고, 스트림을 닫을 때 압축을 마무리함
+     */
+    private OutputStream openOutputStream(HttpServletResponse response, String name, ExportFormat format, boolean gzip) throws IOException {
+        String filename = name + "." + format.getExtension() + (gzip ? ".gz" : "");
+        if (gzip) {
+            response.setContentType("application/gzip");
+        } else {
+            response.setContentType(format.getMediaType());
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        return gzip ? new GZIPOutputStream(response.getOutputStream()) : response.getOutputStream();
+    }
+}
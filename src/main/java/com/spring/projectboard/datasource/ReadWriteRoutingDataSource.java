@@ -0,0 +1,139 @@
+package com.spring.projectboard.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 정상인 복제 DB 에 라운드 로빈으로, 그 외는 원본(primary) DB 로 보냄.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 함.
+ * 복제 DB 는 checkReplicas 에서 연결과 복제 지연을 확인하며, 확인 전이거나 정상인 복제 DB 가 없으면 원본을 사용
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+    private static final String LAG_COLUMN = "Seconds_Behind_Master";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 3;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    /**
+     * @param lagQuery 복제 지연(초)을 조회하는 쿼리. 결과에 Seconds_Behind_Master 컬럼이 있으면 그 값을, 없으면 첫 번째 컬럼을 사용.
+     *                 비어있으면 연결만 확인
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        this.replicas = Map.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(counter.getAndIncrement(), healthy.size()));
+    }
+
+    /**
+     * 연결할 수 없거나 복제 지연이 maxLag 를 넘은 복제 DB 는 다음 확인 때까지 제외
+     */
+    @Scheduled(fixedDelayString = "${datasource-routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    log.warn("복제 DB 연결 확인 실패! 원본 DB 를 사용합니다. - replica: {}", name);
+                    return;
+                }
+                Long lagSeconds = lagSeconds(connection);
+                if (lagSeconds != null && lagSeconds <= maxLag.toSeconds()) {
+                    healthy.add(name);
+                } else {
+                    log.warn("복제 지연이 허용 범위를 넘었습니다! 원본 DB 를 사용합니다. - replica: {}, lag: {}s", name, lagSeconds);
+                }
+            } catch (SQLException e) {
+                log.warn("복제 DB 연결 실패! 원본 DB 를 사용합니다. - replica: {}", name, e);
+            }
+        });
+        healthy.sort(null);
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("읽기 전용 트랜잭션에 사용할 복제 DB: {}", healthy);
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    /**
+     * 복제 지연(초). 지연 쿼리가 없으면 0, 복제가 멈춰 값이 없으면 null
+     */
+    private Long lagSeconds(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return 0L;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                long lag = hasColumn(resultSet, LAG_COLUMN) ? resultSet.getLong(LAG_COLUMN) : resultSet.getLong(1);
+                return resultSet.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    private boolean hasColumn(ResultSet resultSet, String column) throws SQLException {
+        for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
+            if (column.equalsIgnoreCase(resultSet.getMetaData().getColumnLabel(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.spring.projectboard.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -14,6 +17,8 @@ import java.util.Set;
 @Table(indexes = {
         @Index(columnList = "title"),
         @Index(columnList = "createdAt"),
+        @Index(columnList = "createdAt, id"),
+        @Index(columnList = "viewCount, id"),
         @Index(columnList = "createdBy")
 })
 @Entity
@@ -35,12 +40,22 @@ public class Article extends AuditingFields{
     @Column(nullable = false, length=10000)
     String content; //본문
 
+    //댓글 수, 조회수는 UPDATE ... SET n = n + ? 로만 변경 (엔티티 수정 시 덮어쓰지 않도록 updatable = false)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long commentCount = 0;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long viewCount = 0;
+
     @ToString.Exclude
     @JoinTable(
             name = "article_hashtag",
             joinColumns = @JoinColumn(name = "articleId"),
             inverseJoinColumns = @JoinColumn(name = "hashtagId")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "articleHashtags")
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     private Set<Hashtag> hashtags = new LinkedHashSet<>();
 
@@ -14,7 +14,10 @@ import java.util.Set;
 @Table(indexes = {
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "rootCommentId, createdAt"),
+        @Index(columnList = "article_id, parentCommentId, createdAt, id"), //게시글별 최상위 댓글 최신순 커서 조회
+        @Index(columnList = "article_id, modifiedAt") //조건부 GET 검증값의 게시글별 최근 댓글 수정일시
 })
 @Entity
 public class ArticleComment extends AuditingFields{
@@ -39,6 +42,10 @@ public class ArticleComment extends AuditingFields{
     @Column(updatable = false)
     private Long parentCommentId;
 
+    @Setter
+    @Column(updatable = false)
+    private Long rootCommentId; //최상위 댓글 ID (최상위 댓글은 null), 댓글 트리를 루트 단위로 한 번에 조회하기 위함
+
     @ToString.Exclude
     @OrderBy("createdAt ASC")
     @OneToMany(mappedBy = "parentCommentId", cascade = CascadeType.ALL)
@@ -60,6 +67,7 @@ public class ArticleComment extends AuditingFields{
 
     public void addChildComment(ArticleComment child) {
         child.setParentCommentId(this.getId());
+        child.setRootCommentId(this.getRootCommentId() != null ? this.getRootCommentId() : this.getId());
         this.getChildComments().add(child);
     }
 
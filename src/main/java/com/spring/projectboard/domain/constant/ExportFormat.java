@@ -0,0 +1,19 @@
+package com.spring.projectboard.domain.constant;
+
+import lombok.Getter;
+
+/**
+ * 게시글, 댓글 내보내기 형식
+ */
+@Getter
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+}
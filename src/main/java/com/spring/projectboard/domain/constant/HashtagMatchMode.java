@@ -0,0 +1,17 @@
+package com.spring.projectboard.domain.constant;
+
+import lombok.Getter;
+
+/**
+ * 여러 해시태그로 검색할 때 게시글이 만족해야 하는 조건
+ */
+@Getter
+public enum HashtagMatchMode {
+    ALL("모두 포함"),
+    ANY("하나 이상 포함");
+    private final String description;
+
+    HashtagMatchMode(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,17 @@
+package com.spring.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 점수 계산에 필요한 게시글 활동량
+ */
+public record ArticleActivityDto(
+        Long id,
+        LocalDateTime createdAt,
+        long commentCount,
+        long viewCount
+) {
+    public static ArticleActivityDto of(Long id, LocalDateTime createdAt, long commentCount, long viewCount) {
+        return new ArticleActivityDto(id, createdAt, commentCount, viewCount);
+    }
+}
@@ -15,10 +15,15 @@ public record ArticleCommentDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long replyCount
 ) {
     public static ArticleCommentDto of(Long id, Long articleId, UserAccountDto userAccountDto, Long parentCommentId, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleCommentDto(id, articleId, userAccountDto, parentCommentId, content, createdAt, createdBy, modifiedAt, modifiedBy);
+        return ArticleCommentDto.of(id, articleId, userAccountDto, parentCommentId, content, createdAt, createdBy, modifiedAt, modifiedBy, 0L);
+    }
+
+    public static ArticleCommentDto of(Long id, Long articleId, UserAccountDto userAccountDto, Long parentCommentId, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy, long replyCount) {
+        return new ArticleCommentDto(id, articleId, userAccountDto, parentCommentId, content, createdAt, createdBy, modifiedAt, modifiedBy, replyCount);
     }
 
     public static ArticleCommentDto of(Long articleId, UserAccountDto userAccountDto, Long parentCommentId, String content) {
@@ -29,8 +34,14 @@ public record ArticleCommentDto(
         return ArticleCommentDto.of(articleId, userAccountDto, null, content);
     }
 
-
     public static ArticleCommentDto from(ArticleComment articleComment) {
+        return ArticleCommentDto.from(articleComment, 0L);
+    }
+
+    /**
+     * replyCount: 최상위 댓글에 달린 답글 수
+     */
+    public static ArticleCommentDto from(ArticleComment articleComment, long replyCount) {
         return new ArticleCommentDto(
                 articleComment.getId(),
                 articleComment.getArticle().getId(),
@@ -40,7 +51,8 @@ public record ArticleCommentDto(
                 articleComment.getCreatedAt(),
                 articleComment.getCreatedBy(),
                 articleComment.getModifiedAt(),
-                articleComment.getModifiedBy()
+                articleComment.getModifiedBy(),
+                replyCount
         );
     }
 
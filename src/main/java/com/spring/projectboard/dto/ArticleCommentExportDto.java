@@ -0,0 +1,26 @@
+package com.spring.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 내보내기 한 행. 엔티티를 거치지 않고 JPQL 생성자 표현식으로 바로 조회
+ */
+public record ArticleCommentExportDto(
+        Long id,
+        Long articleId,
+        String userId,
+        Long parentCommentId,
+        Long rootCommentId,
+        String content,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+    public static ArticleCommentExportDto of(Long id, Long articleId, String userId, Long parentCommentId, Long rootCommentId,
+                                             String content, LocalDateTime createdAt, String createdBy,
+                                             LocalDateTime modifiedAt, String modifiedBy) {
+        return new ArticleCommentExportDto(id, articleId, userId, parentCommentId, rootCommentId, content,
+                createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+}
@@ -0,0 +1,45 @@
+package com.spring.projectboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서(게시글, 댓글 공용). (작성일시, ID) 를 URL 에 노출되는 불투명한 토큰으로 변환
+ */
+public record ArticleCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "_";
+
+    public static ArticleCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id);
+    }
+
+    /**
+     * 토큰이 비어있으면 첫 페이지를 의미하므로 null 반환
+     */
+    public static ArticleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new ArticleCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.valueOf(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. - cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((createdAt + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -17,14 +17,20 @@ public record ArticleDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long commentCount,
+        long viewCount
 ) {
 
     public static ArticleDto of(UserAccountDto userAccountDto, String title, String content, Set<HashtagDto> hashtagDtos) {
-        return new ArticleDto(null, userAccountDto, title, content, hashtagDtos, null, null, null, null);
+        return new ArticleDto(null, userAccountDto, title, content, hashtagDtos, null, null, null, null, 0L, 0L);
     }
     public static ArticleDto of(Long id, UserAccountDto userAccountDto, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleDto(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy);
+        return ArticleDto.of(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, 0L, 0L);
+    }
+
+    public static ArticleDto of(Long id, UserAccountDto userAccountDto, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy, long commentCount, long viewCount) {
+        return new ArticleDto(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, commentCount, viewCount);
     }
 
     public static ArticleDto from(Article article) {
@@ -39,7 +45,9 @@ public record ArticleDto(
                 article.getCreatedAt(),
                 article.getCreatedBy(),
                 article.getModifiedAt(),
-                article.getModifiedBy()
+                article.getModifiedBy(),
+                article.getCommentCount(),
+                article.getViewCount()
         );
     }
 
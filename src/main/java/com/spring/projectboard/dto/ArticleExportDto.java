@@ -0,0 +1,24 @@
+package com.spring.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 내보내기 한 행. 엔티티를 거치지 않고 JPQL 생성자 표현식으로 바로 조회
+ */
+public record ArticleExportDto(
+        Long id,
+        String userId,
+        String title,
+        String content,
+        long commentCount,
+        long viewCount,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+    public static ArticleExportDto of(Long id, String userId, String title, String content, long commentCount, long viewCount,
+                                      LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        return new ArticleExportDto(id, userId, title, content, commentCount, viewCount, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+}
@@ -0,0 +1,14 @@
+package com.spring.projectboard.dto;
+
+/**
+ * 검색 색인에 넣는 게시글 제목, 본문
+ */
+public record ArticleIndexDto(
+        Long id,
+        String title,
+        String content
+) {
+    public static ArticleIndexDto of(Long id, String title, String content) {
+        return new ArticleIndexDto(id, title, content);
+    }
+}
@@ -0,0 +1,39 @@
+package com.spring.projectboard.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 게시글 목록 한 줄에 필요한 값만 담는 조회 전용 DTO. 엔티티를 거치지 않고 쿼리 결과를 바로 담음
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String content,
+        Set<String> hashtagNames,
+        LocalDateTime createdAt,
+        String userId,
+        String email,
+        String nickname,
+        long commentCount,
+        long viewCount
+) {
+    /**
+     * 프로젝션 쿼리용 생성자. 해시태그는 별도 쿼리로 채움
+     */
+    public ArticleSummaryDto(Long id, String title, String content, LocalDateTime createdAt, String userId, String email, String nickname, long commentCount, long viewCount) {
+        this(id, title, content, Set.of(), createdAt, userId, email, nickname, commentCount, viewCount);
+    }
+
+    public static ArticleSummaryDto of(Long id, String title, String content, Set<String> hashtagNames, LocalDateTime createdAt, String userId, String email, String nickname) {
+        return ArticleSummaryDto.of(id, title, content, hashtagNames, createdAt, userId, email, nickname, 0L, 0L);
+    }
+
+    public static ArticleSummaryDto of(Long id, String title, String content, Set<String> hashtagNames, LocalDateTime createdAt, String userId, String email, String nickname, long commentCount, long viewCount) {
+        return new ArticleSummaryDto(id, title, content, hashtagNames, createdAt, userId, email, nickname, commentCount, viewCount);
+    }
+
+    public ArticleSummaryDto withHashtagNames(Set<String> hashtagNames) {
+        return new ArticleSummaryDto(id, title, content, hashtagNames, createdAt, userId, email, nickname, commentCount, viewCount);
+    }
+}
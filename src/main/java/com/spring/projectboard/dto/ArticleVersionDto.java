@@ -0,0 +1,88 @@
+package com.spring.projectboard.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * 조건부 GET(ETag, Last-Modified) 검증값. 게시글, 댓글을 읽지 않고 한 번의 조회로 가져옴.
+ * 댓글은 수(추가, 삭제)와 마지막 댓글 ID(삭제 후 추가), 마지막 수정일시(수정)로 변경 여부를 판단함.
+ * 조회수는 REST 응답에만 직렬화되므로 REST ETag 에만 반영함.
+ * 상세 화면의 이전, 다음 게시글 링크는 실제 이웃 게시글 ID 로 판단하므로 다른 곳의 새 게시글은 검증값을 바꾸지 않음
+ */
+public record ArticleVersionDto(
+        Long id,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        long commentCount,
+        long viewCount,
+        Long lastCommentId,
+        LocalDateTime lastCommentModifiedAt,
+        Long previousArticleId,
+        Long nextArticleId
+) {
+    /**
+     * 이웃 게시글 ID 없이 조회한 검증값 (JPQL 생성자 표현식용)
+     */
+    public ArticleVersionDto(Long id, LocalDateTime createdAt, LocalDateTime modifiedAt, long commentCount, long viewCount,
+                             Long lastCommentId, LocalDateTime lastCommentModifiedAt) {
+        this(id, createdAt, modifiedAt, commentCount, viewCount, lastCommentId, lastCommentModifiedAt, null, null);
+    }
+
+    public static ArticleVersionDto of(Long id, LocalDateTime createdAt, LocalDateTime modifiedAt, long commentCount, long viewCount,
+                                       Long lastCommentId, LocalDateTime lastCommentModifiedAt,
+                                       Long previousArticleId, Long nextArticleId) {
+        return new ArticleVersionDto(id, createdAt, modifiedAt, commentCount, viewCount, lastCommentId, lastCommentModifiedAt,
+                previousArticleId, nextArticleId);
+    }
+
+    public ArticleVersionDto withNeighbourIds(Long previousArticleId, Long nextArticleId) {
+        return ArticleVersionDto.of(id, createdAt, modifiedAt, commentCount, viewCount, lastCommentId, lastCommentModifiedAt,
+                previousArticleId, nextArticleId);
+    }
+
+    /**
+     * 목록(작성일시 내림차순)에서 이 게시글의 위치
+     */
+    public ArticleCursor cursor() {
+        return ArticleCursor.of(createdAt, id);
+    }
+
+    /**
+     * REST 게시글 리소스용. 게시글 필드와 댓글 수, 조회수만 반영
+     */
+    public String articleEtag() {
+        return etag(id, modifiedAt, commentCount, viewCount);
+    }
+
+    /**
+     * 상세 화면용. 댓글 목록, 이전, 다음 게시글 링크(이웃 게시글 등록, 삭제), 화면을 보는 사용자도 반영
+     */
+    public String detailEtag(String viewer) {
+        return etag(id, modifiedAt, commentCount, lastCommentId, lastCommentModifiedAt, previousArticleId, nextArticleId, viewer);
+    }
+
+    /**
+     * 게시글, 댓글 중 가장 최근 수정일시 (epoch millis)
+     */
+    public long lastModifiedMillis() {
+        LocalDateTime lastModifiedAt = lastCommentModifiedAt != null && lastCommentModifiedAt.isAfter(modifiedAt)
+                ? lastCommentModifiedAt
+                : modifiedAt;
+        return lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 게시글 수정일시만 반영 (epoch millis)
+     */
+    public long articleLastModifiedMillis() {
+        return modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String etag(Object... values) {
+        return "\"" + DigestUtils.md5DigestAsHex(Arrays.toString(values).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -4,6 +4,7 @@ import com.spring.projectboard.domain.Article;
 
 import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,14 +18,21 @@ public record ArticleWithCommentsDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
-
+        String modifiedBy,
+        boolean hasMoreComments
 ) {
     public static ArticleWithCommentsDto of(Long id, String title, String content, Set<HashtagDto> hashtagDtos, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleWithCommentsDto(id, title, content, hashtagDtos, userAccountDto, articleCommentDtos, createdAt, createdBy, modifiedAt, modifiedBy);
+        return ArticleWithCommentsDto.of(id, title, content, hashtagDtos, userAccountDto, articleCommentDtos, createdAt, createdBy, modifiedAt, modifiedBy, false);
+    }
+
+    public static ArticleWithCommentsDto of(Long id, String title, String content, Set<HashtagDto> hashtagDtos, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy, boolean hasMoreComments) {
+        return new ArticleWithCommentsDto(id, title, content, hashtagDtos, userAccountDto, articleCommentDtos, createdAt, createdBy, modifiedAt, modifiedBy, hasMoreComments);
     }
 
-    public static ArticleWithCommentsDto from(Article article) {
+    /**
+     * 댓글은 조회된 순서를 그대로 유지
+     */
+    public static ArticleWithCommentsDto from(Article article, List<ArticleCommentDto> articleCommentDtos, boolean hasMoreComments) {
         return new ArticleWithCommentsDto(
                 article.getId(),
                 article.getTitle(),
@@ -33,13 +41,12 @@ public record ArticleWithCommentsDto(
                         .map(HashtagDto::from)
                         .collect(Collectors.toCollection(LinkedHashSet::new)),
                 UserAccountDto.from(article.getUserAccount()),
-                article.getArticleComments().stream()
-                        .map(ArticleCommentDto::from)
-                        .collect(Collectors.toCollection(LinkedHashSet::new)),
+                new LinkedHashSet<>(articleCommentDtos),
                 article.getCreatedAt(),
                 article.getCreatedBy(),
                 article.getModifiedAt(),
-                article.getModifiedBy()
+                article.getModifiedBy(),
+                hasMoreComments
         );
     }
 }
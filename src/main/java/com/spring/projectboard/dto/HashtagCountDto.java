@@ -0,0 +1,13 @@
+package com.spring.projectboard.dto;
+
+/**
+ * 해시태그와 해당 해시태그를 가지는 게시글 수
+ */
+public record HashtagCountDto(
+        String hashtagName,
+        long articleCount
+) {
+    public static HashtagCountDto of(String hashtagName, long articleCount) {
+        return new HashtagCountDto(hashtagName, articleCount);
+    }
+}
@@ -3,9 +3,8 @@ package com.spring.projectboard.dto.response;
 import com.spring.projectboard.dto.ArticleCommentDto;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.TreeSet;
 
 public record ArticleCommentResponse(
         Long id,
@@ -15,6 +14,7 @@ public record ArticleCommentResponse(
         String nickname,
         String userId,
         Long parentCommentId,
+        long replyCount,
         Set<ArticleCommentResponse> childComments
 ) {
     public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId) {
@@ -22,10 +22,11 @@ public record ArticleCommentResponse(
     }
 
     public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId) {
-        Comparator<ArticleCommentResponse> childCommentComparator = Comparator
-                .comparing(ArticleCommentResponse::createdAt)
-                .thenComparingLong(ArticleCommentResponse::id);
-        return new ArticleCommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, new TreeSet<>(childCommentComparator));
+        return ArticleCommentResponse.of(id, content, createdAt, email, nickname, userId, parentCommentId, 0L);
+    }
+
+    public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId, long replyCount) {
+        return new ArticleCommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, replyCount, new LinkedHashSet<>());
     }
 
     public static ArticleCommentResponse from(ArticleCommentDto dto) {
@@ -40,7 +41,8 @@ public record ArticleCommentResponse(
                 dto.userAccountDto().email(),
                 nickname,
                 dto.userAccountDto().userId(),
-                dto.parentCommentId()
+                dto.parentCommentId(),
+                dto.replyCount()
         );
     }
 
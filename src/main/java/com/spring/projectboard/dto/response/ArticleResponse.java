@@ -1,6 +1,7 @@
 package com.spring.projectboard.dto.response;
 
 import com.spring.projectboard.dto.ArticleDto;
+import com.spring.projectboard.dto.ArticleSummaryDto;
 import com.spring.projectboard.dto.HashtagDto;
 
 import java.time.LocalDateTime;
@@ -14,10 +15,16 @@ public record ArticleResponse(
         Set<String> hashtags,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        long commentCount,
+        long viewCount
 ) {
     public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname);
+        return ArticleResponse.of(id, title, content, hashtags, createdAt, email, nickname, 0L, 0L);
+    }
+
+    public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname, long commentCount, long viewCount) {
+        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname, commentCount, viewCount);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -34,7 +41,27 @@ public record ArticleResponse(
                         .collect(Collectors.toUnmodifiableSet()),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                dto.commentCount(),
+                dto.viewCount()
+        );
+    }
+
+    public static ArticleResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+        return new ArticleResponse(
+                dto.id(),
+                dto.title(),
+                dto.content(),
+                dto.hashtagNames(),
+                dto.createdAt(),
+                dto.email(),
+                nickname,
+                dto.commentCount(),
+                dto.viewCount()
         );
     }
 }
@@ -5,11 +5,10 @@ import com.spring.projectboard.dto.ArticleWithCommentsDto;
 import com.spring.projectboard.dto.HashtagDto;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public record ArticleWithCommentResponse(
@@ -47,26 +46,26 @@ public record ArticleWithCommentResponse(
         );
     }
 
+    /**
+     * 댓글은 DB 에서 이미 정렬되어(최상위 댓글, 그 다음 부모가 먼저 나오는 하위 댓글) 오므로 순서대로 한 번만 훑어 트리를 구성.
+     * 부모 댓글이 없는(현재 페이지에 없는) 하위 댓글은 무시
+     */
     private static Set<ArticleCommentResponse> organizeChildComments(Set<ArticleCommentDto> dtos) {
-        Map<Long, ArticleCommentResponse> map = dtos.stream()
-                .map(ArticleCommentResponse::from)
-                .collect(Collectors.toMap(ArticleCommentResponse::id, Function.identity()));
+        Map<Long, ArticleCommentResponse> map = new HashMap<>();
+        Set<ArticleCommentResponse> rootComments = new LinkedHashSet<>();
 
-        map.values().stream()
-                .filter(ArticleCommentResponse::hasParentComment)
-                .forEach(comment -> {
-                    ArticleCommentResponse parentComment = map.get(comment.parentCommentId());
-                    parentComment.childComments().add(comment);
-                });
-
-        return map.values().stream()
-                .filter(comment -> !comment.hasParentComment())
-                .collect(Collectors.toCollection(() ->
-                        new TreeSet<>(Comparator
-                                .comparing(ArticleCommentResponse::createdAt)
-                                .reversed()
-                                .thenComparingLong(ArticleCommentResponse::id)
-                        )
-                ));
+        for (ArticleCommentDto dto : dtos) {
+            ArticleCommentResponse comment = ArticleCommentResponse.from(dto);
+            map.put(comment.id(), comment);
+            if (!comment.hasParentComment()) {
+                rootComments.add(comment);
+                continue;
+            }
+            ArticleCommentResponse parentComment = map.get(comment.parentCommentId());
+            if (parentComment != null) {
+                parentComment.childComments().add(comment);
+            }
+        }
+        return rootComments;
     }
 }
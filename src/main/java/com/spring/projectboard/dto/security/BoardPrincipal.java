@@ -27,7 +27,10 @@ public record BoardPrincipal(
     }
 
     public static BoardPrincipal of(String username, String password, String email, String nickname, String memo, Map<String, Object> oAuth2Attributes) {
-        Set<RoleType> roleTypes = Set.of(RoleType.USER);
+        return BoardPrincipal.of(username, password, email, nickname, memo, oAuth2Attributes, Set.of(RoleType.USER));
+    }
+
+    public static BoardPrincipal of(String username, String password, String email, String nickname, String memo, Map<String, Object> oAuth2Attributes, Set<RoleType> roleTypes) {
         return new BoardPrincipal(
                 username,
                 password,
@@ -49,6 +52,18 @@ public record BoardPrincipal(
         );
     }
 
+    public static BoardPrincipal from(UserAccountDto dto, Set<RoleType> roleTypes) {
+        return BoardPrincipal.of(
+                dto.userId(),
+                dto.userPassword(),
+                dto.email(),
+                dto.nickname(),
+                dto.memo(),
+                Map.of(),
+                roleTypes
+        );
+    }
+
     public UserAccountDto toDto() {
         return UserAccountDto.of(
               username,
@@ -102,7 +117,8 @@ public record BoardPrincipal(
 
     @Getter
     public enum RoleType {
-        USER("ROLE_USER");
+        USER("ROLE_USER"),
+        ADMIN("ROLE_ADMIN");
 
         private final String name;
 
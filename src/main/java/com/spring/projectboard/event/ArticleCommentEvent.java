@@ -0,0 +1,22 @@
+package com.spring.projectboard.event;
+
+/**
+ * 댓글 저장, 삭제 후 발행되는 이벤트. 커밋 이후 인기 게시글 집계 등 부가 작업에서 사용
+ */
+public record ArticleCommentEvent(
+        Type type,
+        Long articleId,
+        Long articleCommentId
+) {
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    public static ArticleCommentEvent created(Long articleId, Long articleCommentId) {
+        return new ArticleCommentEvent(Type.CREATED, articleId, articleCommentId);
+    }
+
+    public static ArticleCommentEvent deleted(Long articleId, Long articleCommentId) {
+        return new ArticleCommentEvent(Type.DELETED, articleId, articleCommentId);
+    }
+}
@@ -0,0 +1,52 @@
+package com.spring.projectboard.event;
+
+import com.spring.projectboard.domain.Article;
+import com.spring.projectboard.domain.Hashtag;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 저장, 수정, 삭제 후 발행되는 이벤트. 커밋 이후 검색 색인, 해시태그 집계 등 부가 작업에서 사용
+ */
+public record ArticleEvent(
+        Type type,
+        Long articleId,
+        String title,
+        String content,
+        Set<String> addedHashtagNames,
+        Set<String> removedHashtagNames
+) {
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ArticleEvent created(Article article) {
+        return new ArticleEvent(Type.CREATED, article.getId(), article.getTitle(), article.getContent(),
+                hashtagNames(article), Set.of());
+    }
+
+    /**
+     * 수정 전 해시태그와 비교하여 추가, 제거된 해시태그만 담음
+     */
+    public static ArticleEvent updated(Article article, Set<String> previousHashtagNames) {
+        Set<String> currentHashtagNames = hashtagNames(article);
+        Set<String> added = new HashSet<>(currentHashtagNames);
+        added.removeAll(previousHashtagNames);
+        Set<String> removed = new HashSet<>(previousHashtagNames);
+        removed.removeAll(currentHashtagNames);
+        return new ArticleEvent(Type.UPDATED, article.getId(), article.getTitle(), article.getContent(),
+                Set.copyOf(added), Set.copyOf(removed));
+    }
+
+    public static ArticleEvent deleted(Long articleId, Set<String> hashtagNames) {
+        return new ArticleEvent(Type.DELETED, articleId, null, null, Set.of(), Set.copyOf(hashtagNames));
+    }
+
+    private static Set<String> hashtagNames(Article article) {
+        return article.getHashtags().stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,29 @@
+package com.spring.projectboard.event;
+
+import com.spring.projectboard.domain.UserAccount;
+import com.spring.projectboard.service.UserAccountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * REST API(/api/userAccounts)로 회원 정보를 수정, 삭제하면 UserAccountService 의 회원 캐시에서 제거
+ */
+@RequiredArgsConstructor
+@RepositoryEventHandler
+@Component
+public class UserAccountRepositoryEventHandler {
+    private final UserAccountService userAccountService;
+
+    @HandleAfterSave
+    public void afterSave(UserAccount userAccount) {
+        userAccountService.evictUser(userAccount.getUserId());
+    }
+
+    @HandleAfterDelete
+    public void afterDelete(UserAccount userAccount) {
+        userAccountService.evictUser(userAccount.getUserId());
+    }
+}
@@ -0,0 +1,152 @@
+package com.spring.projectboard.filter;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.projectboard.event.ArticleCommentEvent;
+import com.spring.projectboard.event.ArticleEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인하지 않은 사용자의 공개 목록 화면(GET) 응답을 경로+쿼리 문자열별로 짧게 캐싱.
+ * 같은 페이지에 동시에 요청이 몰리면 먼저 온 요청 하나만 렌더링하고 나머지는 그 결과를 기다려 사용.
+ * 게시글, 댓글 변경이 커밋되면 전체를 비우며, 비우기 전에 렌더링을 시작한 응답은 캐싱하지 않음.
+ * Spring Security 필터 다음에 등록되어야 인증 여부를 알 수 있음
+ */
+@Slf4j
+public class AnonymousPageCacheFilter extends OncePerRequestFilter {
+    public static final String CACHE_HEADER = "X-Page-Cache";
+
+    private final AsyncCache<String, CachedPage> pages;
+    private final Set<String> paths;
+    private final Duration waitTimeout;
+    private final AtomicLong generation = new AtomicLong();
+
+    public AnonymousPageCacheFilter(Set<String> paths, Duration ttl, long maximumSize, Duration waitTimeout) {
+        this.pages = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .buildAsync();
+        this.paths = Set.copyOf(paths);
+        this.waitTimeout = waitTimeout;
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        pages.synchronous().invalidateAll();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !HttpMethod.GET.matches(request.getMethod()) || !paths.contains(path) || !isAnonymous();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+
+        CompletableFuture<CachedPage> rendering = new CompletableFuture<>();
+        CompletableFuture<CachedPage> existing = pages.asMap().putIfAbsent(key, rendering);
+        if (existing != null) {
+            CachedPage page = await(existing, key);
+            if (page != null) {
+                write(response, page);
+                return;
+            }
+            response.setHeader(CACHE_HEADER, "BYPASS");
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long startedGeneration = generation.get();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        CachedPage page = null;
+        try {
+            responseWrapper.setHeader(CACHE_HEADER, "MISS");
+            filterChain.doFilter(request, responseWrapper);
+            page = toCachedPage(responseWrapper);
+        } finally {
+            // null 로 완료하면 캐시에서 제거되고 기다리던 요청은 각자 렌더링함
+            rendering.complete(startedGeneration == generation.get() ? page : null);
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null
+                || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated();
+    }
+
+    /**
+     * 먼저 온 요청의 렌더링을 기다림. 실패하거나 waitTimeout 안에 끝나지 않으면 null
+     */
+    private CachedPage await(CompletableFuture<CachedPage> rendering, String key) {
+        try {
+            return rendering.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("캐시된 페이지를 기다리지 못해 직접 렌더링 - key: {}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * 정상 응답(200)이고 쿠키를 설정하지 않은 응답만 캐싱
+     */
+    private CachedPage toCachedPage(ContentCachingResponseWrapper response) {
+        if (response.getStatus() != HttpServletResponse.SC_OK
+                || response.getContentType() == null
+                || response.containsHeader(HttpHeaders.SET_COOKIE)) {
+            return null;
+        }
+        return new CachedPage(response.getContentType(), response.getContentAsByteArray());
+    }
+
+    private void write(HttpServletResponse response, CachedPage page) throws IOException {
+        response.setHeader(CACHE_HEADER, "HIT");
+        response.setContentType(page.contentType());
+        response.setContentLength(page.body().length);
+        response.getOutputStream().write(page.body());
+    }
+
+    private record CachedPage(String contentType, byte[] body) {
+    }
+}
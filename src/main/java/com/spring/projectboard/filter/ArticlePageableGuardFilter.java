@@ -0,0 +1,135 @@
+package com.spring.projectboard.filter;
+
+import com.spring.projectboard.pageable.ArticlePageableGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Spring Data REST 게시글 목록(GET /api/articles, /api/articles/search/*) 의 정렬을 목록 화면과 같은 (key, id) 인덱스 정렬로 맞춤.
+ * 허용하지 않는 키, id 외의 두 번째 정렬 키는 400 으로 거절하고, 허용한 키에는 같은 방향의 id 를 덧붙여 페이지 사이에 행이 겹치거나 빠지지 않게 함.
+ * Spring Data REST 가 읽는 sort 파라미터는 인터셉터에서 바꿀 수 없으므로 필터에서 요청을 감쌈.
+ * 최대 크기를 넘는 size 는 Spring Data REST 가 줄이므로 집계만 함
+ */
+@RequiredArgsConstructor
+public class ArticlePageableGuardFilter extends OncePerRequestFilter {
+    private static final String SORT_PARAMETER = "sort";
+    private static final String SIZE_PARAMETER = "size";
+
+    private final ArticlePageableGuard articlePageableGuard;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        recordClampedSize(request.getParameter(SIZE_PARAMETER));
+
+        String[] sorts = request.getParameterValues(SORT_PARAMETER);
+        if (sorts == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Sort.Order key = null;
+        Sort.Order id = null;
+        for (String sort : sorts) {
+            String[] elements = sort.split(",");
+            Sort.Direction direction = Sort.Direction.fromOptionalString(elements[elements.length - 1]).orElse(Sort.Direction.ASC);
+            for (String property : elements) {
+                if (property.isBlank() || isDirection(property)) {
+                    continue;
+                }
+                if (!articlePageableGuard.isSortable(property)) {
+                    articlePageableGuard.recordRejectedSort(property);
+                    response.sendError(HttpServletResponse.SC_BAD_REQUEST, "정렬할 수 없는 속성입니다 - sort: " + property);
+                    return;
+                }
+                if (ArticlePageableGuard.ID_PROPERTY.equals(property)) {
+                    id = id == null ? new Sort.Order(direction, property) : id;
+                } else if (key == null) {
+                    key = new Sort.Order(direction, property);
+                } else {
+                    articlePageableGuard.recordRejectedSort(property);
+                    response.sendError(HttpServletResponse.SC_BAD_REQUEST, "하나의 속성으로만 정렬할 수 있습니다 - sort: " + property);
+                    return;
+                }
+            }
+        }
+        Sort.Order selected = key != null ? key : id;
+        if (selected == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        filterChain.doFilter(new SortParameterRequest(request, articlePageableGuard.indexSort(selected)), response);
+    }
+
+    private void recordClampedSize(String size) {
+        if (size != null && size.matches("\\d{1,9}")) {
+            int requestedSize = Integer.parseInt(size);
+            if (requestedSize > articlePageableGuard.getMaxPageSize()) {
+                articlePageableGuard.recordClampedSize(requestedSize);
+            }
+        }
+    }
+
+    private boolean isDirection(String value) {
+        return "asc".equalsIgnoreCase(value) || "desc".equalsIgnoreCase(value);
+    }
+
+    /**
+     * sort 파라미터만 주어진 정렬로 바꾼 요청
+     */
+    private static class SortParameterRequest extends HttpServletRequestWrapper {
+        private final Map<String, String[]> parameters;
+
+        SortParameterRequest(HttpServletRequest request, Sort sort) {
+            super(request);
+            List<String> sortValues = new ArrayList<>();
+            for (Sort.Order order : sort) {
+                sortValues.add(order.getProperty() + "," + order.getDirection().name().toLowerCase(Locale.ROOT));
+            }
+            Map<String, String[]> parameters = new LinkedHashMap<>(request.getParameterMap());
+            parameters.put(SORT_PARAMETER, sortValues.toArray(String[]::new));
+            this.parameters = Collections.unmodifiableMap(parameters);
+        }
+
+        @Override
+        public String getParameter(String name) {
+            String[] values = parameters.get(name);
+            return values == null || values.length == 0 ? null : values[0];
+        }
+
+        @Override
+        public String[] getParameterValues(String name) {
+            return parameters.get(name);
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            return parameters;
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(parameters.keySet());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.spring.projectboard.interceptor;
+
+import com.spring.projectboard.dto.ArticleVersionDto;
+import com.spring.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Optional;
+
+/**
+ * Spring Data REST 게시글 단건 조회(GET /api/articles/{id}) 전에 검증값만 조회해 변경이 없으면 304 를 반환.
+ * 변경된 경우 ETag 만 설정하고 Last-Modified 는 Spring Data REST 가 설정함
+ */
+@RequiredArgsConstructor
+public class ArticleConditionalGetInterceptor implements HandlerInterceptor {
+    private final ArticleRepository articleRepository;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long articleId = articleId(request);
+        if (!HttpMethod.GET.matches(request.getMethod()) || articleId == null) {
+            return true;
+        }
+        Optional<ArticleVersionDto> version = articleRepository.findVersionById(articleId);
+        if (version.isEmpty()) {
+            return true;
+        }
+
+        String etag = version.get().articleEtag();
+        long lastModified = version.get().articleLastModifiedMillis();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // 응답 없이 생성해 검증만 하고 헤더는 직접 설정 (Spring Data REST 의 Last-Modified 와 중복되지 않도록)
+        if (new ServletWebRequest(request).checkNotModified(etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 경로의 마지막 부분이 숫자가 아니면(/api/articles/search 등) null
+     */
+    private Long articleId(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        try {
+            return Long.valueOf(uri.substring(uri.lastIndexOf('/') + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.spring.projectboard.migration;
+
+import com.spring.projectboard.migration.ArticleBulkImporter.BulkImportProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * bulk-import.file 을 지정하면 기동 시 게시글을 대량 등록.
+ * 예) java -jar project-board.jar --bulk-import.file=legacy.jsonl --bulk-import.batch-size=2000 --spring.main.web-application-type=none
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bulk-import.file")
+@Component
+public class ArticleBulkImportRunner implements ApplicationRunner {
+    private final ArticleBulkImporter articleBulkImporter;
+    private final BulkImportProperties bulkImportProperties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path file = Path.of(bulkImportProperties.getFile());
+        log.info("게시글 대량 등록 시작 - file: {}, batchSize: {}", file, bulkImportProperties.getBatchSize());
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            BulkImportResult result = articleBulkImporter.importArticles(reader);
+            log.info("게시글 대량 등록 완료 - 게시글: {}, 댓글: {}, 해시태그 연결: {}, 건너뜀: {}, 소요: {}, {} rows/s",
+                    result.articles(), result.comments(), result.hashtagLinks(), result.skipped(),
+                    result.elapsed(), result.rowsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.spring.projectboard.migration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.projectboard.domain.Hashtag;
+import com.spring.projectboard.dto.ArticleIndexDto;
+import com.spring.projectboard.migration.ArticleImportRecord.CommentImportRecord;
+import com.spring.projectboard.repository.HashtagRepository;
+import com.spring.projectboard.search.ArticleSearchEngine;
+import com.spring.projectboard.service.HashtagCloudCache;
+import com.spring.projectboard.util.HashtagTokenizer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JSONL 파일의 게시글, 댓글을 한 줄씩 읽어 batchSize 개의 게시글마다 한 트랜잭션으로 저장.
+ * 엔티티 ID 가 IDENTITY 라 Hibernate 의 insert 배치가 동작하지 않으므로 JDBC batch insert 로 저장하고
+ * 생성된 ID 는 getGeneratedKeys 로 받아 해시태그 연결, 댓글(부모 댓글 단계부터 차례로) 저장에 사용.
+ * MySQL 은 rewriteBatchedStatements=true, PostgreSQL 은 reWriteBatchedInserts=true 를 JDBC URL 에 추가해야 여러 행을 한 번에 전송함.
+ * 게시글 이벤트를 발행하지 않으므로 배치가 커밋될 때마다 저장한 게시글을 검색 색인에 직접 반영
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleBulkImporter {
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_CONTENT_LENGTH = 10000;
+    private static final int MAX_COMMENT_LENGTH = 500;
+    private static final String IMPORTED_BY = "bulk-import";
+
+    private static final String SELECT_USER_IDS = "SELECT user_id FROM user_account WHERE user_id IN (:userIds)";
+    private static final String INSERT_ARTICLE = "INSERT INTO article "
+            + "(user_id, title, content, comment_count, view_count, created_at, created_by, modified_at, modified_by) "
+            + "VALUES (?, ?, ?, ?, 0, ?, ?, ?, ?)";
+    private static final String INSERT_ARTICLE_HASHTAG = "INSERT INTO article_hashtag (article_id, hashtag_id) VALUES (?, ?)";
+    private static final String INSERT_COMMENT = "INSERT INTO article_comment "
+            + "(article_id, user_id, parent_comment_id, root_comment_id, content, created_at, created_by, modified_at, modified_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final HashtagRepository hashtagRepository;
+    private final HashtagCloudCache hashtagCloudCache;
+    private final ArticleSearchEngine articleSearchEngine;
+    private final ObjectMapper objectMapper;
+    private final BulkImportProperties bulkImportProperties;
+
+    /**
+     * 읽을 수 없는 줄은 건너뛰고 나머지는 importArticles(Iterator) 와 같음
+     */
+    public BulkImportResult importArticles(Reader reader) throws IOException {
+        AtomicLong lineNumber = new AtomicLong();
+        LongAdder unreadableLines = new LongAdder();
+        Iterator<ArticleImportRecord> records = new BufferedReader(reader).lines()
+                .map(line -> parse(line, lineNumber.incrementAndGet(), unreadableLines))
+                .filter(Objects::nonNull)
+                .iterator();
+        try {
+            BulkImportResult result = importArticles(records);
+            return BulkImportResult.of(result.articles(), result.comments(), result.hashtagLinks(),
+                    result.skipped() + unreadableLines.sum(), result.elapsed());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 작성자가 없거나 길이 제한을 넘는 게시글은 건너뜀 (댓글은 답글과 함께 제외).
+     * 저장 중 오류가 나면 해당 배치만 롤백하고 가져오기를 중단 (이전 배치는 커밋된 상태로 유지)
+     */
+    public BulkImportResult importArticles(Iterator<ArticleImportRecord> records) {
+        long startedAt = System.nanoTime();
+        int batchSize = bulkImportProperties.getBatchSize();
+        Map<String, Long> hashtagIds = new HashMap<>();
+        List<ArticleImportRecord> batch = new ArrayList<>(batchSize);
+        long articles = 0;
+        long comments = 0;
+        long hashtagLinks = 0;
+        long skipped = 0;
+
+        while (records.hasNext()) {
+            batch.add(records.next());
+            if (batch.size() < batchSize && records.hasNext()) {
+                continue;
+            }
+
+            BatchResult result = transactionTemplate.execute(status -> insertBatch(batch, hashtagIds));
+            index(result);
+            articles += result.articles();
+            comments += result.comments();
+            hashtagLinks += result.hashtagLinks();
+            skipped += batch.size() - result.articles();
+            batch.clear();
+
+            BulkImportResult progress = BulkImportResult.of(articles, comments, hashtagLinks, skipped,
+                    Duration.ofNanos(System.nanoTime() - startedAt));
+            log.info("게시글 대량 등록 중 - 게시글: {}, 댓글: {}, 건너뜀: {}, {} rows/s",
+                    articles, comments, skipped, progress.rowsPerSecond());
+        }
+
+        hashtagCloudCache.invalidate();
+        return BulkImportResult.of(articles, comments, hashtagLinks, skipped,
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private ArticleImportRecord parse(String line, long lineNumber, LongAdder unreadableLines) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(line, ArticleImportRecord.class);
+        } catch (JsonProcessingException e) {
+            log.warn("읽을 수 없는 줄은 건너뜀 - line: {}, {}", lineNumber, e.getOriginalMessage());
+            unreadableLines.increment();
+            return null;
+        }
+    }
+
+    private BatchResult insertBatch(List<ArticleImportRecord> batch, Map<String, Long> hashtagIds) {
+        Set<String> userIds = findExistingUserIds(batch);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ArticleImportRecord> articles = batch.stream()
+                .filter(record -> userIds.contains(record.userId()))
+                .filter(record -> isValid(record.title(), MAX_TITLE_LENGTH) && isValid(record.content(), MAX_CONTENT_LENGTH))
+                .map(record -> new ArticleImportRecord(record.userId(), record.title(), record.content(),
+                        record.createdAt() != null ? record.createdAt() : now,
+                        validComments(record.comments(), userIds)))
+                .toList();
+        if (articles.isEmpty()) {
+            return new BatchResult(List.of(), List.of(), 0, 0);
+        }
+
+        List<Long> articleIds = insertReturningIds(INSERT_ARTICLE, articles, (ps, article) -> {
+            Timestamp createdAt = Timestamp.valueOf(article.createdAt());
+            ps.setString(1, article.userId());
+            ps.setString(2, article.title());
+            ps.setString(3, article.content());
+            ps.setLong(4, countComments(article.comments()));
+            ps.setTimestamp(5, createdAt);
+            ps.setString(6, article.userId());
+            ps.setTimestamp(7, createdAt);
+            ps.setString(8, article.userId());
+        });
+
+        long hashtagLinks = insertArticleHashtags(articles, articleIds, hashtagIds);
+
+        List<PendingComment> pendingComments = new ArrayList<>();
+        for (int i = 0; i < articles.size(); i++) {
+            for (CommentImportRecord comment : articles.get(i).comments()) {
+                pendingComments.add(new PendingComment(articleIds.get(i), null, null, comment, articles.get(i).createdAt()));
+            }
+        }
+        long comments = 0;
+        while (!pendingComments.isEmpty()) {
+            comments += pendingComments.size();
+            pendingComments = insertComments(pendingComments);
+        }
+        return new BatchResult(articles, articleIds, comments, hashtagLinks);
+    }
+
+    /**
+     * 커밋된 배치를 한 번에 색인. 색인 실패가 이미 커밋된 배치를 되돌리지 않도록 로그만 남김
+     */
+    private void index(BatchResult result) {
+        List<ArticleIndexDto> articles = new ArrayList<>(result.articleIds().size());
+        for (int i = 0; i < result.articleIds().size(); i++) {
+            ArticleImportRecord article = result.savedArticles().get(i);
+            articles.add(ArticleIndexDto.of(result.articleIds().get(i), article.title(), article.content()));
+        }
+        try {
+            articleSearchEngine.indexAll(articles);
+        } catch (RuntimeException e) {
+            log.warn("대량 등록한 게시글 색인 실패! - {}건, 첫 articleId: {}", articles.size(),
+                    articles.isEmpty() ? null : articles.get(0).id(), e);
+        }
+    }
+
+    private Set<String> findExistingUserIds(List<ArticleImportRecord> batch) {
+        Set<String> userIds = new HashSet<>();
+        for (ArticleImportRecord record : batch) {
+            if (record.userId() != null) {
+                userIds.add(record.userId());
+            }
+            collectUserIds(record.comments(), userIds);
+        }
+        if (userIds.isEmpty()) {
+            return userIds;
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                SELECT_USER_IDS, Map.of("userIds", userIds), String.class));
+    }
+
+    private void collectUserIds(List<CommentImportRecord> comments, Set<String> userIds) {
+        for (CommentImportRecord comment : comments) {
+            if (comment.userId() != null) {
+                userIds.add(comment.userId());
+            }
+            collectUserIds(comment.replies(), userIds);
+        }
+    }
+
+    private List<CommentImportRecord> validComments(List<CommentImportRecord> comments, Set<String> userIds) {
+        return comments.stream()
+                .filter(comment -> userIds.contains(comment.userId()) && isValid(comment.content(), MAX_COMMENT_LENGTH))
+                .map(comment -> new CommentImportRecord(comment.userId(), comment.content(), comment.createdAt(),
+                        validComments(comment.replies(), userIds)))
+                .toList();
+    }
+
+    private long countComments(List<CommentImportRecord> comments) {
+        long count = comments.size();
+        for (CommentImportRecord comment : comments) {
+            count += countComments(comment.replies());
+        }
+        return count;
+    }
+
+    private boolean isValid(String value, int maxLength) {
+        return value != null && !value.isBlank() && value.length() <= maxLength;
+    }
+
+    /**
+     * 본문의 해시태그 중 처음 보는 이름만 upsert 후 ID 를 조회하고, 이후 배치에서는 기억해둔 ID 를 사용
+     */
+    private long insertArticleHashtags(List<ArticleImportRecord> articles, List<Long> articleIds, Map<String, Long> hashtagIds) {
+        List<Set<String>> hashtagNames = articles.stream()
+                .map(article -> HashtagTokenizer.tokenize(article.content()))
+                .toList();
+
+        Set<String> newHashtagNames = new LinkedHashSet<>();
+        hashtagNames.forEach(names -> names.stream()
+                .filter(name -> !hashtagIds.containsKey(name))
+                .forEach(newHashtagNames::add));
+        if (!newHashtagNames.isEmpty()) {
+            hashtagRepository.upsertHashtagNames(newHashtagNames, IMPORTED_BY);
+            for (Hashtag hashtag : hashtagRepository.findByHashtagNameIn(newHashtagNames)) {
+                hashtagIds.put(hashtag.getHashtagName(), hashtag.getId());
+            }
+        }
+
+        List<long[]> links = new ArrayList<>();
+        for (int i = 0; i < articles.size(); i++) {
+            for (String name : hashtagNames.get(i)) {
+                links.add(new long[]{articleIds.get(i), hashtagIds.get(name)});
+            }
+        }
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ARTICLE_HASHTAG, links, links.size(), (ps, link) -> {
+                ps.setLong(1, link[0]);
+                ps.setLong(2, link[1]);
+            });
+        }
+        return links.size();
+    }
+
+    /**
+     * 같은 단계의 댓글을 한 번에 저장하고, 생성된 ID 를 부모로 하는 다음 단계의 답글들을 반환
+     */
+    private List<PendingComment> insertComments(List<PendingComment> comments) {
+        List<Long> commentIds = insertReturningIds(INSERT_COMMENT, comments, (ps, pending) -> {
+            Timestamp createdAt = Timestamp.valueOf(pending.createdAt());
+            ps.setLong(1, pending.articleId());
+            ps.setString(2, pending.comment().userId());
+            ps.setObject(3, pending.parentCommentId());
+            ps.setObject(4, pending.rootCommentId());
+            ps.setString(5, pending.comment().content());
+            ps.setTimestamp(6, createdAt);
+            ps.setString(7, pending.comment().userId());
+            ps.setTimestamp(8, createdAt);
+            ps.setString(9, pending.comment().userId());
+        });
+
+        List<PendingComment> replies = new ArrayList<>();
+        for (int i = 0; i < comments.size(); i++) {
+            PendingComment parent = comments.get(i);
+            Long parentId = commentIds.get(i);
+            Long rootId = parent.rootCommentId() != null ? parent.rootCommentId() : parentId;
+            for (CommentImportRecord reply : parent.comment().replies()) {
+                replies.add(new PendingComment(parent.articleId(), parentId, rootId, reply, parent.createdAt()));
+            }
+        }
+        return replies;
+    }
+
+    /**
+     * JdbcTemplate.batchUpdate 는 생성된 키를 돌려주지 않으므로 같은 트랜잭션의 커넥션으로 직접 배치 실행
+     */
+    private <T> List<Long> insertReturningIds(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"})) {
+                for (T row : rows) {
+                    setter.setValues(ps, row);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> generatedIds = new ArrayList<>(rows.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generatedIds.add(keys.getLong(1));
+                    }
+                }
+                return generatedIds;
+            }
+        });
+        if (ids == null || ids.size() != rows.size()) {
+            throw new IllegalStateException("생성된 ID 수가 저장한 행 수와 다릅니다. - rows: " + rows.size());
+        }
+        return ids;
+    }
+
+    private record BatchResult(List<ArticleImportRecord> savedArticles, List<Long> articleIds, long comments, long hashtagLinks) {
+        long articles() {
+            return articleIds.size();
+        }
+    }
+
+    /**
+     * 작성 시각이 없는 댓글은 게시글 작성 시각을 사용
+     */
+    private record PendingComment(
+            Long articleId,
+            Long parentCommentId,
+            Long rootCommentId,
+            CommentImportRecord comment,
+            LocalDateTime articleCreatedAt
+    ) {
+        LocalDateTime createdAt() {
+            return comment.createdAt() != null ? comment.createdAt() : articleCreatedAt;
+        }
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("bulk-import")
+    public static class BulkImportProperties {
+        /**
+         * 가져올 JSONL 파일 경로. 지정하면 기동 시 가져오기를 실행
+         */
+        private final String file;
+        /**
+         * 한 트랜잭션(JDBC 배치)에 저장할 게시글 수
+         */
+        private final int batchSize;
+
+        public BulkImportProperties(String file, @DefaultValue("1000") int batchSize) {
+            this.file = file;
+            this.batchSize = batchSize;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.spring.projectboard.migration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대량 등록 파일(JSONL)의 한 줄. 게시글과 댓글, 대댓글(replies)을 함께 가짐.
+ * 작성 시각이 없으면 등록 시각을 사용하고, 해시태그는 기존 게시글과 같이 본문에서 추출
+ */
+public record ArticleImportRecord(
+        String userId,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        List<CommentImportRecord> comments
+) {
+    public List<CommentImportRecord> comments() {
+        return comments == null ? List.of() : comments;
+    }
+
+    public record CommentImportRecord(
+            String userId,
+            String content,
+            LocalDateTime createdAt,
+            List<CommentImportRecord> replies
+    ) {
+        public List<CommentImportRecord> replies() {
+            return replies == null ? List.of() : replies;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.spring.projectboard.migration;
+
+import java.time.Duration;
+
+/**
+ * 대량 등록 결과. rows 는 게시글, 댓글, 게시글-해시태그 연결 행을 합한 수
+ */
+public record BulkImportResult(
+        long articles,
+        long comments,
+        long hashtagLinks,
+        long skipped,
+        Duration elapsed
+) {
+    public static BulkImportResult of(long articles, long comments, long hashtagLinks, long skipped, Duration elapsed) {
+        return new BulkImportResult(articles, comments, hashtagLinks, skipped, elapsed);
+    }
+
+    public long rows() {
+        return articles + comments + hashtagLinks;
+    }
+
+    public long rowsPerSecond() {
+        long millis = Math.max(elapsed.toMillis(), 1);
+        return rows() * 1000 / millis;
+    }
+}
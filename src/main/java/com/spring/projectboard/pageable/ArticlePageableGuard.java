@@ -0,0 +1,117 @@
+package com.spring.projectboard.pageable;
+
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 게시글 목록 정렬, 페이지 크기 제한. 인덱스로 정렬할 수 있는 키만 허용하고 같은 방향의 id 를 덧붙여
+ * (key, id) 인덱스 순서대로 읽도록 함. 허용하지 않는 키(본문, 해시태그 등)는 버리고 최신순으로 조회.
+ * 작성자 정렬은 회원 테이블을 조인하지 않도록 게시글의 createdBy(작성자 ID) 인덱스를 사용.
+ * 버린 정렬 키, 줄인 페이지 크기는 board.pageable.guard 메트릭(reason 태그)으로 집계
+ */
+@Slf4j
+@Component
+public class ArticlePageableGuard {
+    public static final String TRENDING_SORT = "trending";
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "title", "createdBy", "createdAt", "viewCount");
+    public static final String ID_PROPERTY = "id";
+    static final String METRIC_NAME = "board.pageable.guard";
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt", ID_PROPERTY);
+
+    private final int maxPageSize;
+
+    public ArticlePageableGuard(PageableGuardProperties pageableGuardProperties) {
+        this.maxPageSize = pageableGuardProperties.getMaxPageSize();
+    }
+
+    /**
+     * 인기순(trending)은 DB 에서 정렬하지 않으므로 그대로 둠
+     */
+    public Pageable guard(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), clampSize(pageable.getPageSize()), guardSort(pageable.getSort()));
+    }
+
+    /**
+     * 페이지 크기를 [1, maxPageSize] 범위로 맞춤
+     */
+    public int clampSize(int size) {
+        if (size >= 1 && size <= maxPageSize) {
+            return size;
+        }
+        recordClampedSize(size);
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    /**
+     * 정렬 키에 같은 방향의 id 를 덧붙여 (key, id) 인덱스 순서로 정렬. 인기순, id 는 그대로
+     */
+    public Sort indexSort(Sort.Order order) {
+        if (TRENDING_SORT.equals(order.getProperty()) || ID_PROPERTY.equals(order.getProperty())) {
+            return Sort.by(order);
+        }
+        return Sort.by(order, new Sort.Order(order.getDirection(), ID_PROPERTY));
+    }
+
+    public boolean isSortable(String property) {
+        return SORTABLE_PROPERTIES.contains(property);
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void recordRejectedSort(String property) {
+        log.debug("허용하지 않는 정렬 키를 무시합니다. - sort: {}", property);
+        Metrics.counter(METRIC_NAME, "reason", "sort_rejected").increment();
+    }
+
+    public void recordClampedSize(int size) {
+        log.debug("페이지 크기를 줄입니다. - size: {}, max: {}", size, maxPageSize);
+        Metrics.counter(METRIC_NAME, "reason", "size_clamped").increment();
+    }
+
+    /**
+     * 첫 번째 허용 키만 사용 (두 번째 키부터는 인덱스로 정렬할 수 없음)
+     */
+    private Sort guardSort(Sort sort) {
+        Sort.Order selected = null;
+        for (Sort.Order order : sort) {
+            if (selected == null && (TRENDING_SORT.equals(order.getProperty()) || isSortable(order.getProperty()))) {
+                selected = order;
+            } else {
+                recordRejectedSort(order.getProperty());
+            }
+        }
+        if (selected == null) {
+            return DEFAULT_SORT;
+        }
+        return indexSort(selected);
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("pageable-guard")
+    public static class PageableGuardProperties {
+        /**
+         * 목록 화면, REST API 의 최대 페이지 크기
+         */
+        private final int maxPageSize;
+
+        public PageableGuardProperties(@DefaultValue("100") int maxPageSize) {
+            this.maxPageSize = maxPageSize;
+        }
+    }
+}
@@ -5,17 +5,28 @@ import com.querydsl.core.types.dsl.StringExpression;
 import com.spring.projectboard.domain.ArticleComment;
 import com.spring.projectboard.domain.QArticleComment;
 import com.spring.projectboard.domain.projection.ArticleCommentProjection;
+import com.spring.projectboard.dto.ArticleCommentExportDto;
+import com.spring.projectboard.repository.querydsl.ArticleCommentRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @RepositoryRestResource(excerptProjection = ArticleCommentProjection.class)
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment, Long>,
+        ArticleCommentRepositoryCustom,
         QuerydslPredicateExecutor<ArticleComment>,
         QuerydslBinderCustomizer<QArticleComment> {
 
@@ -29,5 +40,16 @@ public interface ArticleCommentRepository extends
     }
 
     List<ArticleComment> findByArticleId(Long articleId);
+    Optional<ArticleComment> findByIdAndUserAccount_UserId(Long articleCommentId, String userId);
     void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+
+    /**
+     * 전체 댓글을 ID 순으로 한 행씩 읽는 forward-only 커서. 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 함
+     */
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.spring.projectboard.dto.ArticleCommentExportDto(c.id, c.article.id, c.userAccount.userId, "
+            + "c.parentCommentId, c.rootCommentId, c.content, c.createdAt, c.createdBy, c.modifiedAt, c.modifiedBy) "
+            + "from ArticleComment c order by c.id")
+    Stream<ArticleCommentExportDto> streamAllForExport();
 }
@@ -1,19 +1,34 @@
 package com.spring.projectboard.repository;
 
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.spring.projectboard.domain.Article;
 import com.spring.projectboard.domain.QArticle;
 import com.spring.projectboard.domain.projection.ArticleCommentProjection;
 import com.spring.projectboard.domain.projection.ArticleProjection;
+import com.spring.projectboard.dto.ArticleExportDto;
+import com.spring.projectboard.dto.ArticleVersionDto;
 import com.spring.projectboard.repository.querydsl.ArticleRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import javax.persistence.QueryHint;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.SPEC_HINT_TIMEOUT;
 
 @RepositoryRestResource(excerptProjection = ArticleProjection.class)
 public interface ArticleRepository extends
@@ -34,13 +49,57 @@ public interface ArticleRepository extends
         bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
     }
 
-    Page<Article> findByTitleContaining(String keyword, Pageable pageable);
+    /**
+     * REST API 게시글 목록 (GET /api/articles). 정렬 키는 ArticlePageableGuardFilter 가 (key, id) 로 제한
+     */
+    @Override
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = QueryTimeouts.LIST_QUERY_MILLIS))
+    Page<Article> findAll(Pageable pageable);
+
+    /**
+     * REST API 게시글 목록 검색 (GET /api/articles?title=...)
+     */
+    @Override
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = QueryTimeouts.LIST_QUERY_MILLIS))
+    Page<Article> findAll(Predicate predicate, Pageable pageable);
+
+    /**
+     * REST API 검색 (GET /api/articles/search/*). 부분 일치 검색은 인덱스를 타지 않으므로 전체 건수를 세지 않고
+     * size + 1 건으로 다음 페이지 존재 여부만 판단함 (응답에 page 메타데이터가 없음)
+     */
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = QueryTimeouts.LIST_QUERY_MILLIS))
+    Slice<Article> findByTitleContaining(String keyword, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = QueryTimeouts.LIST_QUERY_MILLIS))
+    Slice<Article> findByContentContaining(String searchKeyword, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = QueryTimeouts.LIST_QUERY_MILLIS))
+    Slice<Article> findByUserAccount_UserIdContaining(String searchKeyword, Pageable pageable);
 
-    Page<Article> findByContentContaining(String searchKeyword, Pageable pageable);
+    @QueryHints(@QueryHint(name = SPEC_HINT_TIMEOUT, value = QueryTimeouts.LIST_QUERY_MILLIS))
+    Slice<Article> findByUserAccount_NicknameContaining(String searchKeyword, Pageable pageable);
 
-    Page<Article> findByUserAccount_UserIdContaining(String searchKeyword, Pageable pageable);
+    long deleteByIdAndUserAccount_UserId(Long articleId, String userId);
 
-    Page<Article> findByUserAccount_NicknameContaining(String searchKeyword, Pageable pageable);
+    /**
+     * 조건부 GET 검증값. 댓글, 해시태그를 읽지 않고 집계 서브쿼리만 실행.
+     * 댓글 서브쿼리는 (article_id, modifiedAt) 인덱스에서 해당 게시글의 댓글 범위만 읽음
+     */
+    @RestResource(exported = false)
+    @Query("select new com.spring.projectboard.dto.ArticleVersionDto(a.id, a.createdAt, a.modifiedAt, a.commentCount, a.viewCount, "
+            + "(select max(c.id) from ArticleComment c where c.article = a), "
+            + "(select max(c.modifiedAt) from ArticleComment c where c.article = a)) "
+            + "from Article a where a.id = :articleId")
+    Optional<ArticleVersionDto> findVersionById(@Param("articleId") Long articleId);
 
-    void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
+    /**
+     * 전체 게시글을 ID 순으로 한 행씩 읽는 forward-only 커서. 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 함.
+     * DTO 로 조회하므로 영속성 컨텍스트에 쌓이지 않음 (MariaDB Connector/J 는 fetch size 만큼씩 나눠 받음)
+     */
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.spring.projectboard.dto.ArticleExportDto(a.id, a.userAccount.userId, a.title, a.content, "
+            + "a.commentCount, a.viewCount, a.createdAt, a.createdBy, a.modifiedAt, a.modifiedBy) "
+            + "from Article a order by a.id")
+    Stream<ArticleExportDto> streamAllForExport();
 }
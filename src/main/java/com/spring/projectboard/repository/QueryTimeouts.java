@@ -0,0 +1,12 @@
+package com.spring.projectboard.repository;
+
+/**
+ * 검색 조건, 정렬, 페이지를 요청으로 받는 목록/COUNT 쿼리의 statement timeout (javax.persistence.query.timeout, ms).
+ * 넘으면 DB 에서 쿼리를 중단하고 QueryTimeoutException 이 발생함
+ */
+public final class QueryTimeouts {
+    public static final String LIST_QUERY_MILLIS = "3000";
+
+    private QueryTimeouts() {
+    }
+}
@@ -0,0 +1,31 @@
+package com.spring.projectboard.repository.querydsl;
+
+import com.spring.projectboard.domain.ArticleComment;
+import com.spring.projectboard.dto.ArticleCursor;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ArticleCommentRepositoryCustom {
+    /**
+     * 게시글의 최상위 댓글을 작성일시 내림차순(같으면 ID 내림차순)으로 커서 다음부터 size 개 작성자와 함께 조회.
+     * 커서가 null 이면 첫 페이지
+     */
+    Slice<ArticleComment> findRootComments(Long articleId, ArticleCursor cursor, int size);
+
+    /**
+     * 최상위 댓글에 달린 모든 하위 댓글(답글)을 작성일시 오름차순(같으면 ID 오름차순)으로 커서 다음부터 size 개 작성자와 함께 조회
+     */
+    Slice<ArticleComment> findReplies(Long rootCommentId, ArticleCursor cursor, int size);
+
+    /**
+     * 최상위 댓글 ID 별 하위 댓글(답글) 수. 답글이 없는 댓글은 포함되지 않음
+     */
+    Map<Long, Long> countRepliesByRootCommentIds(Collection<Long> rootCommentIds);
+
+    /**
+     * 댓글 자신과 그 아래 모든 하위 댓글 수. rootCommentId 는 댓글의 최상위 댓글 ID (최상위 댓글이면 null)
+     */
+    long countSubtree(Long commentId, Long rootCommentId);
+}
@@ -0,0 +1,139 @@
+package com.spring.projectboard.repository.querydsl;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.spring.projectboard.domain.ArticleComment;
+import com.spring.projectboard.domain.QArticleComment;
+import com.spring.projectboard.dto.ArticleCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+    private static final Sort ROOT_COMMENT_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final Sort REPLY_SORT = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    /**
+     * (article_id, parent_comment_id, created_at, id) 인덱스를 역순으로 따라 읽도록 정렬 방향을 맞춤.
+     * size + 1 건으로 다음 페이지 존재 여부만 판단하고 COUNT 는 하지 않음
+     */
+    @Override
+    public Slice<ArticleComment> findRootComments(Long articleId, ArticleCursor cursor, int size) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        List<ArticleComment> rootComments = from(articleComment)
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(articleComment.article.id.eq(articleId),
+                        articleComment.parentCommentId.isNull(),
+                        afterInRootOrder(articleComment, cursor))
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return toSlice(rootComments, size, ROOT_COMMENT_SORT);
+    }
+
+    @Override
+    public Slice<ArticleComment> findReplies(Long rootCommentId, ArticleCursor cursor, int size) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        List<ArticleComment> replies = from(articleComment)
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(articleComment.rootCommentId.eq(rootCommentId),
+                        afterInReplyOrder(articleComment, cursor))
+                .orderBy(articleComment.createdAt.asc(), articleComment.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        return toSlice(replies, size, REPLY_SORT);
+    }
+
+    @Override
+    public Map<Long, Long> countRepliesByRootCommentIds(Collection<Long> rootCommentIds) {
+        if (rootCommentIds.isEmpty()) {
+            return Map.of();
+        }
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .select(articleComment.rootCommentId, articleComment.id.count())
+                .where(articleComment.rootCommentId.in(rootCommentIds))
+                .groupBy(articleComment.rootCommentId)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(articleComment.rootCommentId),
+                        tuple -> tuple.get(articleComment.id.count())
+                ));
+    }
+
+    /**
+     * 최상위 댓글은 같은 rootCommentId 의 답글 수만 세고, 답글은 같은 스레드의 (ID, 부모 ID) 만 한 번에 읽어 메모리에서 하위 댓글을 셈.
+     * 어느 경우든 (rootCommentId, createdAt) 인덱스로 쿼리 한 번
+     */
+    @Override
+    public long countSubtree(Long commentId, Long rootCommentId) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        if (rootCommentId == null) {
+            return 1L + from(articleComment)
+                    .select(articleComment.count())
+                    .where(articleComment.rootCommentId.eq(commentId))
+                    .fetchOne();
+        }
+        Map<Long, List<Long>> childIds = from(articleComment)
+                .select(articleComment.id, articleComment.parentCommentId)
+                .where(articleComment.rootCommentId.eq(rootCommentId))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(articleComment.parentCommentId),
+                        Collectors.mapping(tuple -> tuple.get(articleComment.id), Collectors.toList())
+                ));
+
+        long count = 0;
+        Deque<Long> pendingIds = new ArrayDeque<>(List.of(commentId));
+        while (!pendingIds.isEmpty()) {
+            count++;
+            pendingIds.addAll(childIds.getOrDefault(pendingIds.poll(), List.of()));
+        }
+        return count;
+    }
+
+    private Slice<ArticleComment> toSlice(List<ArticleComment> comments, int size, Sort sort) {
+        boolean hasNext = comments.size() > size;
+        return new SliceImpl<>(
+                hasNext ? comments.subList(0, size) : comments,
+                PageRequest.of(0, size, sort),
+                hasNext
+        );
+    }
+
+    private BooleanExpression afterInRootOrder(QArticleComment articleComment, ArticleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return articleComment.createdAt.lt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.lt(cursor.id())));
+    }
+
+    private BooleanExpression afterInReplyOrder(QArticleComment articleComment, ArticleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return articleComment.createdAt.gt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.gt(cursor.id())));
+    }
+}
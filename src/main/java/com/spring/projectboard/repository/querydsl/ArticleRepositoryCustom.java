@@ -1,12 +1,77 @@
 package com.spring.projectboard.repository.querydsl;
 
 import com.spring.projectboard.domain.Article;
-import org.springframework.data.domain.Page;
+import com.spring.projectboard.domain.constant.HashtagMatchMode;
+import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleActivityDto;
+import com.spring.projectboard.dto.ArticleCursor;
+import com.spring.projectboard.dto.ArticleSummaryDto;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
-    Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+    /**
+     * 검색 조건에 맞는 게시글 목록을 엔티티 없이 DTO 로 조회. 검색어가 없으면 전체 조회. 전체 건수는 세지 않음
+     */
+    Slice<ArticleSummaryDto> findSummarySlice(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    long countSummaries(SearchType searchType, String searchKeyword);
+
+    /**
+     * 주어진 해시태그를 모두(ALL) 또는 하나 이상(ANY) 가지는 게시글 목록을 게시글마다 한 번씩 조회. 전체 건수는 세지 않음
+     */
+    Slice<ArticleSummaryDto> findSummariesByHashtagNames(Collection<String> hashtagNames, HashtagMatchMode matchMode, Pageable pageable);
+
+    long countByHashtagNames(Collection<String> hashtagNames, HashtagMatchMode matchMode);
+
+    /**
+     * (작성일시, ID) 내림차순으로 커서 이후의 게시글 목록을 조회. 커서가 null 이면 첫 페이지
+     */
+    Slice<ArticleSummaryDto> findSummariesByCursor(ArticleCursor cursor, int size);
+
+    /**
+     * modifiedSince 이후 수정된 게시글을 ID 오름차순으로 afterId 다음부터 조회 (검색 색인 복구용, 해시태그 이름은 채우지 않음)
+     */
+    Slice<ArticleSummaryDto> findSummariesModifiedSince(LocalDateTime modifiedSince, Long afterId, int size);
+
+    /**
+     * 주어진 ID 순서를 유지하여 게시글 목록을 DTO 로 조회. 없는 ID 는 제외
+     */
+    List<ArticleSummaryDto> findSummariesByIds(List<Long> articleIds);
+
+    /**
+     * 목록(작성일시 내림차순)에서 커서 바로 앞에 위치한, 즉 한 단계 더 최근 게시글의 ID
+     */
+    Optional<Long> findPreviousId(ArticleCursor cursor);
+
+    /**
+     * 목록(작성일시 내림차순)에서 커서 바로 뒤에 위치한, 즉 한 단계 더 오래된 게시글의 ID
+     */
+    Optional<Long> findNextId(ArticleCursor cursor);
+
+    /**
+     * 게시글 상세 화면에 필요한 작성자, 해시태그를 한 번에 로딩. 댓글은 댓글 트리 조회로 따로 가져옴
+     */
+    Optional<Article> findDetailById(Long articleId);
+
+    /**
+     * since 이후 작성된 게시글의 댓글 수, 조회수를 최신순으로 최대 limit 개 조회 (createdAt 인덱스 범위 조회)
+     */
+    List<ArticleActivityDto> findActivitiesCreatedAfter(LocalDateTime since, int limit);
+
+    /**
+     * 댓글 수 증감. 행을 읽지 않고 DB 에서 원자적으로 더함
+     */
+    int addCommentCount(Long articleId, long delta);
+
+    /**
+     * 조회수 증가. ArticleViewCounter 가 모아둔 게시글별 조회수(게시글 ID -> 증가량)를 한 트랜잭션, 한 배치로 더함
+     */
+    void addViewCounts(Map<Long, Long> viewCounts);
 }
@@ -1,32 +1,467 @@
 package com.spring.projectboard.repository.querydsl;
 
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.AbstractJPAQuery;
 import com.spring.projectboard.domain.Article;
 import com.spring.projectboard.domain.QArticle;
 import com.spring.projectboard.domain.QHashtag;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import com.spring.projectboard.domain.QUserAccount;
+import com.spring.projectboard.domain.constant.HashtagMatchMode;
+import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleActivityDto;
+import com.spring.projectboard.dto.ArticleCursor;
+import com.spring.projectboard.dto.ArticleSummaryDto;
+import com.spring.projectboard.repository.QueryTimeouts;
+import com.spring.projectboard.util.HashtagTokenizer;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hibernate.jpa.QueryHints.SPEC_HINT_TIMEOUT;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
-    public ArticleRepositoryCustomImpl() {
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    private static final String HASHTAGS_PROPERTY = "hashtags";
+    private static final String ADD_COMMENT_COUNT = "UPDATE article SET comment_count = comment_count + ? WHERE id = ?";
+    private static final String ADD_VIEW_COUNT = "UPDATE article SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArticleRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
         super(Article.class);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
+    /**
+     * 목록 화면은 엔티티를 수정하지 않으므로 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 DTO 로 조회.
+     * COUNT 없이 size + 1 건으로 다음 페이지 존재 여부만 판단하고, 해시태그는 페이지 단위로 IN 쿼리 한 번에 채움
+     */
     @Override
-    public Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable) {
-        QHashtag hashtag = QHashtag.hashtag;
+    public Slice<ArticleSummaryDto> findSummarySlice(SearchType searchType, String searchKeyword, Pageable pageable) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        if (pageable.getSort().stream().anyMatch(order -> HASHTAGS_PROPERTY.equals(order.getProperty()))) {
+            return findSummarySliceSortedByHashtag(article, userAccount, searchType, searchKeyword, pageable);
+        }
+        JPQLQuery<ArticleSummaryDto> query = withTimeout(selectSummaries(article, userAccount)
+                .where(searchCondition(article, userAccount, searchType, searchKeyword)));
+        getQuerydsl().applySorting(pageable.getSort(), query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(withHashtagNames(query.fetch()), pageable, false);
+        }
+        List<ArticleSummaryDto> summaries = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = summaries.size() > pageable.getPageSize();
+        return new SliceImpl<>(
+                withHashtagNames(hasNext ? summaries.subList(0, pageable.getPageSize()) : summaries),
+                pageable,
+                hasNext
+        );
+    }
+
+    @Override
+    public long countSummaries(SearchType searchType, String searchKeyword) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        return withTimeout(from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .where(searchCondition(article, userAccount, searchType, searchKeyword))
+                .select(article.count()))
+                .fetchOne();
+    }
+
+    /**
+     * 해시태그 이름을 먼저 ID 로 바꾼 뒤 article_hashtag 에서 게시글 ID 만으로 교집합(GROUP BY HAVING COUNT)
+     * 또는 합집합을 구해 페이징하고, 해당 페이지의 게시글만 DTO 로 채움. 게시글이 여러 해시태그에 걸려도 한 번만 조회됨
+     */
+    @Override
+    public Slice<ArticleSummaryDto> findSummariesByHashtagNames(Collection<String> hashtagNames, HashtagMatchMode matchMode, Pageable pageable) {
+        QArticle article = QArticle.article;
+
+        List<Long> hashtagIds = findHashtagIds(hashtagNames);
+        if (!canMatch(hashtagNames, hashtagIds, matchMode)) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        JPQLQuery<Long> query = withTimeout(from(article)
+                .select(article.id)
+                .where(article.id.in(articleIdsHaving(hashtagIds, matchMode))));
+        applyIdSorting(query, article, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(findSummariesByIds(query.fetch()), pageable, false);
+        }
+        List<Long> articleIds = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = articleIds.size() > pageable.getPageSize();
+        return new SliceImpl<>(
+                findSummariesByIds(hasNext ? articleIds.subList(0, pageable.getPageSize()) : articleIds),
+                pageable,
+                hasNext
+        );
+    }
+
+    @Override
+    public long countByHashtagNames(Collection<String> hashtagNames, HashtagMatchMode matchMode) {
+        QArticle article = QArticle.article;
+
+        List<Long> hashtagIds = findHashtagIds(hashtagNames);
+        if (!canMatch(hashtagNames, hashtagIds, matchMode)) {
+            return 0;
+        }
+        return withTimeout(from(article)
+                .where(article.id.in(articleIdsHaving(hashtagIds, matchMode)))
+                .select(article.count()))
+                .fetchOne();
+    }
+
+    /**
+     * OFFSET 없이 (createdAt, id) 인덱스를 따라 커서 위치부터 읽기 때문에 페이지 깊이와 무관하게 비용이 일정.
+     * 다음 페이지 존재 여부는 size + 1 건을 조회하여 판단
+     */
+    @Override
+    public Slice<ArticleSummaryDto> findSummariesByCursor(ArticleCursor cursor, int size) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        List<ArticleSummaryDto> summaries = selectSummaries(article, userAccount)
+                .where(olderThan(article, cursor))
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = summaries.size() > size;
+        return new SliceImpl<>(
+                withHashtagNames(hasNext ? summaries.subList(0, size) : summaries),
+                PageRequest.of(0, size, CURSOR_SORT),
+                hasNext
+        );
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSummariesModifiedSince(LocalDateTime modifiedSince, Long afterId, int size) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        List<ArticleSummaryDto> summaries = selectSummaries(article, userAccount)
+                .where(article.modifiedAt.goe(modifiedSince),
+                        afterId == null ? null : article.id.gt(afterId))
+                .orderBy(article.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = summaries.size() > size;
+        return new SliceImpl<>(
+                hasNext ? summaries.subList(0, size) : summaries,
+                PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "id")),
+                hasNext
+        );
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesByIds(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
         QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
 
-        JPQLQuery<Article> query = from(article)
+        Map<Long, ArticleSummaryDto> summaries = selectSummaries(article, userAccount)
+                .where(article.id.in(articleIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+
+        return withHashtagNames(articleIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    @Override
+    public Optional<Long> findPreviousId(ArticleCursor cursor) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .select(article.id)
+                .where(newerThan(article, cursor))
+                .orderBy(article.createdAt.asc(), article.id.asc())
+                .fetchFirst());
+    }
+
+    @Override
+    public Optional<Long> findNextId(ArticleCursor cursor) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .select(article.id)
+                .where(olderThan(article, cursor))
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .fetchFirst());
+    }
+
+    @Override
+    public List<ArticleActivityDto> findActivitiesCreatedAfter(LocalDateTime since, int limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(Projections.constructor(ArticleActivityDto.class,
+                        article.id,
+                        article.createdAt,
+                        article.commentCount,
+                        article.viewCount
+                ))
+                .where(article.createdAt.goe(since))
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<Article> findDetailById(Long articleId) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .innerJoin(article.userAccount).fetchJoin()
+                .leftJoin(article.hashtags).fetchJoin()
+                .where(article.id.eq(articleId))
+                .distinct()
+                .fetchOne());
+    }
+
+    /**
+     * 카운터 컬럼만 바꾸는 UPDATE 는 Hibernate 를 거치지 않고 JDBC 로 실행. JPQL 벌크 UPDATE 는 Article 과
+     * 연관된 2차 캐시 영역(articleHashtags 등)을 통째로 비우므로, 조회수 반영, 댓글 저장마다 캐시가 비워지지 않도록 함
+     */
+    @Override
+    public int addCommentCount(Long articleId, long delta) {
+        return jdbcTemplate.update(ADD_COMMENT_COUNT, delta, articleId);
+    }
+
+    /**
+     * 게시글 ID 순으로 정렬한 UPDATE 를 한 트랜잭션에서 배치로 전송. 동시에 반영하는 다른 서버와 같은 순서로 행을 잠금
+     */
+    @Transactional
+    @Override
+    public void addViewCounts(Map<Long, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> sortedViewCounts = viewCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT, sortedViewCounts, sortedViewCounts.size(), (ps, viewCount) -> {
+            ps.setLong(1, viewCount.getValue());
+            ps.setLong(2, viewCount.getKey());
+        });
+    }
+
+    /**
+     * 요청으로 받은 검색 조건, 정렬로 실행하는 목록, COUNT 쿼리에 statement timeout 을 설정
+     */
+    private <T> JPQLQuery<T> withTimeout(JPQLQuery<T> query) {
+        ((AbstractJPAQuery<T, ?>) query).setHint(SPEC_HINT_TIMEOUT, QueryTimeouts.LIST_QUERY_MILLIS);
+        return query;
+    }
+
+    private JPQLQuery<ArticleSummaryDto> selectSummaries(QArticle article, QUserAccount userAccount) {
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(Projections.constructor(ArticleSummaryDto.class,
+                        article.id,
+                        article.title,
+                        article.content,
+                        article.createdAt,
+                        userAccount.userId,
+                        userAccount.email,
+                        userAccount.nickname,
+                        article.commentCount,
+                        article.viewCount
+                ));
+    }
+
+    /**
+     * 조회한 게시글들의 해시태그 이름을 한 번의 IN 쿼리로 가져와 채움
+     */
+    private List<ArticleSummaryDto> withHashtagNames(List<ArticleSummaryDto> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+        List<Long> articleIds = summaries.stream().map(ArticleSummaryDto::id).toList();
+
+        Map<Long, Set<String>> hashtagNames = from(article)
                 .innerJoin(article.hashtags, hashtag)
-                .where(hashtag.hashtagName.in(hashtagNames));
-        List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
+                .select(article.id, hashtag.hashtagName)
+                .where(article.id.in(articleIds))
+                .orderBy(hashtag.hashtagName.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(article.id),
+                        Collectors.mapping(tuple -> tuple.get(hashtag.hashtagName), Collectors.toCollection(LinkedHashSet::new))
+                ));
+
+        return summaries.stream()
+                .map(summary -> summary.withHashtagNames(hashtagNames.getOrDefault(summary.id(), Set.of())))
+                .toList();
+    }
+
+    private List<Long> findHashtagIds(Collection<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return List.of();
+        }
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return from(hashtag)
+                .select(hashtag.id)
+                .where(hashtag.hashtagName.in(hashtagNames))
+                .fetch();
+    }
+
+    /**
+     * 없는 해시태그가 하나라도 있으면 ALL 조건은 만족할 수 없으므로 게시글을 조회하지 않음
+     */
+    private boolean canMatch(Collection<String> hashtagNames, List<Long> hashtagIds, HashtagMatchMode matchMode) {
+        if (hashtagIds.isEmpty()) {
+            return false;
+        }
+        return matchMode != HashtagMatchMode.ALL || hashtagIds.size() == Set.copyOf(hashtagNames).size();
+    }
+
+    private JPQLQuery<Long> articleIdsHaving(List<Long> hashtagIds, HashtagMatchMode matchMode) {
+        QArticle taggedArticle = new QArticle("taggedArticle");
+        QHashtag hashtag = QHashtag.hashtag;
+
+        JPQLQuery<Long> subQuery = JPAExpressions.select(taggedArticle.id)
+                .from(taggedArticle)
+                .innerJoin(taggedArticle.hashtags, hashtag)
+                .where(hashtag.id.in(hashtagIds));
+        if (matchMode == HashtagMatchMode.ALL) {
+            subQuery.groupBy(taggedArticle.id)
+                    .having(hashtag.id.count().eq((long) hashtagIds.size()));
+        }
+        return subQuery;
+    }
+
+    /**
+     * 게시글 ID 만 조회하므로 해시태그(컬렉션) 정렬은 무시. 정렬이 없으면 최신순
+     */
+    private void applyIdSorting(JPQLQuery<Long> query, QArticle article, Sort sort) {
+        Sort articleSort = Sort.by(sort.stream()
+                .filter(order -> !HASHTAGS_PROPERTY.equals(order.getProperty()))
+                .toList());
+        if (articleSort.isUnsorted()) {
+            query.orderBy(article.createdAt.desc(), article.id.desc());
+            return;
+        }
+        getQuerydsl().applySorting(articleSort, query);
+    }
+
+    private BooleanExpression searchCondition(QArticle article, QUserAccount userAccount, SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> article.hashtags.any().hashtagName.in(HashtagTokenizer.tokenizeKeyword(searchKeyword));
+        };
+    }
+
+    /**
+     * 해시태그(컬렉션) 정렬은 게시글 ID 로만 그룹화한 뒤 가장 앞선 해시태그 이름으로 정렬하여 해당 페이지의 ID 를 구하고,
+     * 본문 등 목록 컬럼은 그 ID 들로 다시 조회. 긴 본문 컬럼이 임시 테이블, 정렬 대상에 올라가지 않음
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Slice<ArticleSummaryDto> findSummarySliceSortedByHashtag(QArticle article, QUserAccount userAccount,
+                                                                    SearchType searchType, String searchKeyword, Pageable pageable) {
+        QHashtag hashtag = QHashtag.hashtag;
+        PathBuilder<Article> articlePath = new PathBuilder<>(Article.class, article.getMetadata());
+
+        JPQLQuery<Long> query = withTimeout(from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .leftJoin(article.hashtags, hashtag)
+                .select(article.id)
+                .where(searchCondition(article, userAccount, searchType, searchKeyword))
+                .groupBy(article.id));
+        for (Sort.Order order : pageable.getSort()) {
+            Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+            if (HASHTAGS_PROPERTY.equals(order.getProperty())) {
+                query.orderBy(new OrderSpecifier<>(direction, hashtag.hashtagName.min()));
+                continue;
+            }
+            ComparableExpressionBase<?> property = sortProperty(articlePath, order.getProperty());
+            query.groupBy(property)
+                    .orderBy(new OrderSpecifier(direction, property));
+        }
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(findSummariesByIds(query.fetch()), pageable, false);
+        }
+        List<Long> articleIds = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = articleIds.size() > pageable.getPageSize();
+        return new SliceImpl<>(
+                findSummariesByIds(hasNext ? articleIds.subList(0, pageable.getPageSize()) : articleIds),
+                pageable,
+                hasNext
+        );
+    }
+
+    private ComparableExpressionBase<?> sortProperty(PathBuilder<Article> articlePath, String property) {
+        String[] segments = property.split("\\.");
+        PathBuilder<?> path = articlePath;
+        for (int i = 0; i < segments.length - 1; i++) {
+            path = path.get(segments[i]);
+        }
+        return path.getComparable(segments[segments.length - 1], Comparable.class);
+    }
+
+    private BooleanExpression newerThan(QArticle article, ArticleCursor cursor) {
+        return article.createdAt.gt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.gt(cursor.id())));
+    }
 
-        return new PageImpl<>(articles, pageable, query.fetchCount());
+    private BooleanExpression olderThan(QArticle article, ArticleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return article.createdAt.lt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())));
     }
 }
@@ -1,7 +1,25 @@
 package com.spring.projectboard.repository.querydsl;
 
+import com.spring.projectboard.dto.HashtagCountDto;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface HashtagRepositoryCustom {
     List<String> findAllHashtagNames();
+
+    /**
+     * 게시글이 있는 해시태그별 게시글 수
+     */
+    List<HashtagCountDto> findHashtagCounts();
+
+    /**
+     * 없는 해시태그만 한 번의 배치로 저장. 이미 있거나 동시에 저장된 해시태그는 무시
+     */
+    void upsertHashtagNames(Collection<String> hashtagNames, String createdBy);
+
+    /**
+     * 주어진 해시태그들 중 어떤 게시글에도 연결되지 않은 해시태그를 한 번에 삭제하고 삭제된 수 반환
+     */
+    int deleteOrphansByIdIn(Collection<Long> hashtagIds);
 }
@@ -1,14 +1,40 @@
 package com.spring.projectboard.repository.querydsl;
 
+import com.querydsl.core.types.Projections;
 import com.spring.projectboard.domain.Hashtag;
+import com.spring.projectboard.domain.QArticle;
 import com.spring.projectboard.domain.QHashtag;
+import com.spring.projectboard.dto.HashtagCountDto;
+import org.hibernate.query.NativeQuery;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
-    public HashtagRepositoryCustomImpl() {
+    private static final String INSERT_COLUMNS = "INSERT INTO hashtag (hashtag_name, created_at, created_by, modified_at, modified_by) ";
+    private static final String MYSQL_UPSERT = INSERT_COLUMNS + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+    private static final String POSTGRESQL_UPSERT = INSERT_COLUMNS + "VALUES (?, ?, ?, ?, ?) ON CONFLICT (hashtag_name) DO NOTHING";
+    private static final String DEFAULT_UPSERT = INSERT_COLUMNS
+            + "SELECT ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM hashtag WHERE hashtag_name = ?)";
+
+    private static final String DELETE_ORPHANS = "DELETE FROM hashtag WHERE id IN (:hashtagIds) "
+            + "AND NOT EXISTS (SELECT 1 FROM article_hashtag ah WHERE ah.hashtag_id = hashtag.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    public HashtagRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
         super(Hashtag.class);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -19,4 +45,95 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 .select(hashtag.hashtagName)
                 .fetch();
     }
+
+    @Override
+    public List<HashtagCountDto> findHashtagCounts() {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+
+        return from(hashtag)
+                .innerJoin(hashtag.articles, article)
+                .groupBy(hashtag.hashtagName)
+                .select(Projections.constructor(HashtagCountDto.class, hashtag.hashtagName, article.id.count()))
+                .fetch();
+    }
+
+    /**
+     * 해시태그 이름의 unique 인덱스에 맡겨 DB 별 upsert 구문으로 저장하므로 동시에 같은 해시태그를 저장해도 실패하지 않음.
+     * JDBC 로 직접 저장하기 전에 영속성 컨텍스트에 남아있는 변경(해시태그 삭제 등)을 먼저 반영하고,
+     * 여러 트랜잭션이 같은 순서로 잠금을 잡도록 이름순으로 정렬하여 저장.
+     * upsert 구문이 없는 DB 의 INSERT ... WHERE NOT EXISTS 는 동시에 같은 이름을 저장하면 한쪽이 unique 인덱스에 걸리므로,
+     * 이 경우 한 건씩 다시 저장하여 이미 커밋된 해시태그는 건너뜀
+     */
+    @Override
+    public void upsertHashtagNames(Collection<String> hashtagNames, String createdBy) {
+        if (hashtagNames.isEmpty()) {
+            return;
+        }
+        getEntityManager().flush();
+
+        String sql = upsertSql();
+        boolean needsExistsParameter = DEFAULT_UPSERT.equals(sql);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> sortedNames = hashtagNames.stream().sorted().toList();
+
+        try {
+            jdbcTemplate.batchUpdate(sql, sortedNames, sortedNames.size(),
+                    (ps, hashtagName) -> setUpsertParameters(ps, hashtagName, now, createdBy, needsExistsParameter));
+        } catch (DataIntegrityViolationException e) {
+            if (!needsExistsParameter) {
+                throw e;
+            }
+            sortedNames.forEach(hashtagName -> insertIfAbsent(hashtagName, now, createdBy));
+        }
+    }
+
+    /**
+     * 연결된 게시글 컬렉션을 로딩하지 않고 article_hashtag 존재 여부만 확인하여 삭제.
+     * 2차 캐시는 전체가 아닌 해시태그 영역만 비워지도록 대상 엔티티를 지정
+     */
+    @Override
+    public int deleteOrphansByIdIn(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return 0;
+        }
+        return getEntityManager()
+                .createNativeQuery(DELETE_ORPHANS)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Hashtag.class)
+                .setParameter("hashtagIds", hashtagIds)
+                .executeUpdate();
+    }
+
+    private void insertIfAbsent(String hashtagName, Timestamp now, String createdBy) {
+        try {
+            jdbcTemplate.update(DEFAULT_UPSERT, ps -> setUpsertParameters(ps, hashtagName, now, createdBy, true));
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 저장한 해시태그
+        }
+    }
+
+    private void setUpsertParameters(PreparedStatement ps, String hashtagName, Timestamp now, String createdBy,
+                                     boolean needsExistsParameter) throws SQLException {
+        ps.setString(1, hashtagName);
+        ps.setTimestamp(2, now);
+        ps.setString(3, createdBy);
+        ps.setTimestamp(4, now);
+        ps.setString(5, createdBy);
+        if (needsExistsParameter) {
+            ps.setString(6, hashtagName);
+        }
+    }
+
+    private String upsertSql() {
+        if (upsertSql == null) {
+            upsertSql = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    switch (connection.getMetaData().getDatabaseProductName()) {
+                        case "MySQL", "MariaDB" -> MYSQL_UPSERT;
+                        case "PostgreSQL" -> POSTGRESQL_UPSERT;
+                        default -> DEFAULT_UPSERT;
+                    });
+        }
+        return upsertSql;
+    }
 }
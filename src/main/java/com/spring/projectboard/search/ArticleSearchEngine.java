@@ -0,0 +1,28 @@
+package com.spring.projectboard.search;
+
+import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleIndexDto;
+import com.spring.projectboard.dto.ArticleSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 제목, 본문 키워드 검색 엔진. search.engine 설정으로 구현체 선택
+ */
+public interface ArticleSearchEngine {
+    /**
+     * TITLE, CONTENT 검색만 지원
+     */
+    Page<ArticleSummaryDto> search(SearchType searchType, String keyword, Pageable pageable);
+
+    void index(Long articleId, String title, String content);
+
+    /**
+     * 여러 게시글을 한 번에 색인하고 검색에는 한 번만 반영 (대량 등록용)
+     */
+    void indexAll(List<ArticleIndexDto> articles);
+
+    void delete(Long articleId);
+}
@@ -0,0 +1,29 @@
+package com.spring.projectboard.search;
+
+import com.spring.projectboard.event.ArticleEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 변경이 커밋된 뒤 검색 색인에 반영. 색인 실패가 게시글 저장을 되돌리지 않도록 로그만 남김
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndexer {
+    private final ArticleSearchEngine articleSearchEngine;
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> articleSearchEngine.index(event.articleId(), event.title(), event.content());
+                case DELETED -> articleSearchEngine.delete(event.articleId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 반영 실패! - articleId: {}, type: {}", event.articleId(), event.type(), e);
+        }
+    }
+}
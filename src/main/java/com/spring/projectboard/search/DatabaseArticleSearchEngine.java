@@ -0,0 +1,45 @@
+package com.spring.projectboard.search;
+
+import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleIndexDto;
+import com.spring.projectboard.dto.ArticleSummaryDto;
+import com.spring.projectboard.repository.ArticleRepository;
+import com.spring.projectboard.service.ArticleCountCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 기본 검색 엔진. 별도 색인 없이 DB 의 LIKE 검색 사용
+ */
+@RequiredArgsConstructor
+public class DatabaseArticleSearchEngine implements ArticleSearchEngine {
+    private final ArticleRepository articleRepository;
+    private final ArticleCountCache articleCountCache;
+
+    @Override
+    public Page<ArticleSummaryDto> search(SearchType searchType, String keyword, Pageable pageable) {
+        return articleCountCache.toPage(
+                articleRepository.findSummarySlice(searchType, keyword, pageable),
+                ArticleCountCache.key(searchType, keyword),
+                () -> articleRepository.countSummaries(searchType, keyword)
+        );
+    }
+
+    @Override
+    public void index(Long articleId, String title, String content) {
+        // DB 자체가 검색 대상이므로 색인할 필요 없음
+    }
+
+    @Override
+    public void indexAll(List<ArticleIndexDto> articles) {
+        // DB 자체가 검색 대상이므로 색인할 필요 없음
+    }
+
+    @Override
+    public void delete(Long articleId) {
+        // DB 자체가 검색 대상이므로 색인할 필요 없음
+    }
+}
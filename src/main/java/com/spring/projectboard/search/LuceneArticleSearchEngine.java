@@ -0,0 +1,317 @@
+package com.spring.projectboard.search;
+
+import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleCursor;
+import com.spring.projectboard.dto.ArticleIndexDto;
+import com.spring.projectboard.dto.ArticleSummaryDto;
+import com.spring.projectboard.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 디스크에 Lucene 역색인을 두고 제목, 본문을 검색. 한글은 CJKAnalyzer 의 bi-gram 으로 토큰화하고
+ * 결과는 BM25 점수 순으로 정렬. 색인에는 ID 만 저장하고 목록 데이터는 DB 에서 ID 로 조회.
+ * 변경은 IndexWriter 에서 바로 여는 NRT reader 로 검색에 반영하고, 디스크 커밋(fsync)은 주기적으로, 종료 시 한 번 수행.
+ * 커밋마다 어느 시점까지의 게시글 변경이 색인에 반영되었는지(syncedAt) 커밋 데이터에 기록하고, 기동 시 그 이후 수정된 게시글을
+ * 다시 색인하여 비정상 종료나 색인 실패로 어긋난 색인을 맞춤. 색인에만 남은 삭제된 게시글은 검색 결과에서 발견될 때 지움
+ */
+@Slf4j
+public class LuceneArticleSearchEngine implements ArticleSearchEngine, DisposableBean {
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String SYNCED_AT = "syncedAt";
+    private static final int REBUILD_BATCH_SIZE = 500;
+    // 커밋 시각 직전에 수정되어 아직 색인 이벤트가 처리되지 않은 게시글도 다시 색인하도록 여유를 둠
+    private static final Duration RECONCILE_MARGIN = Duration.ofMinutes(1);
+
+    private final ArticleRepository articleRepository;
+    private final Analyzer analyzer = new CJKAnalyzer(CharArraySet.EMPTY_SET);
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final boolean rebuildOnStartup;
+    private final AtomicReference<LocalDateTime> firstFailedAt = new AtomicReference<>();
+
+    public LuceneArticleSearchEngine(Path indexPath, ArticleRepository articleRepository) throws IOException {
+        this(indexPath, articleRepository, false);
+    }
+
+    public LuceneArticleSearchEngine(Path indexPath, ArticleRepository articleRepository, boolean rebuildOnStartup) throws IOException {
+        this.articleRepository = articleRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.directory = FSDirectory.open(indexPath);
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * 색인 문서 수를 넘는 페이지는 검색하지 않고 빈 페이지 반환
+     */
+    @Override
+    public Page<ArticleSummaryDto> search(SearchType searchType, String keyword, Pageable pageable) {
+        Query query = new QueryBuilder(analyzer).createBooleanQuery(field(searchType), keyword, BooleanClause.Occur.MUST);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int maxDoc = searcher.getIndexReader().maxDoc();
+                if (pageable.getOffset() >= maxDoc) {
+                    return new PageImpl<>(List.of(), pageable, searcher.count(query));
+                }
+                int offset = (int) pageable.getOffset();
+                TopDocs topDocs = searcher.search(query, (int) Math.min((long) offset + pageable.getPageSize(), maxDoc));
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> articleIds = new ArrayList<>();
+                for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    articleIds.add(Long.valueOf(storedFields.document(scoreDoc.doc).get(ID)));
+                }
+                long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? topDocs.totalHits.value
+                        : searcher.count(query);
+
+                List<ArticleSummaryDto> summaries = articleRepository.findSummariesByIds(articleIds);
+                if (summaries.size() < articleIds.size()) {
+                    deleteMissing(articleIds, summaries);
+                }
+                return new PageImpl<>(summaries, pageable, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 실패 - keyword: " + keyword, e);
+        }
+    }
+
+    @Override
+    public void index(Long articleId, String title, String content) {
+        try {
+            updateDocument(articleId, title, content);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            recordFailure();
+            throw new UncheckedIOException("게시글 색인 실패 - articleId: " + articleId, e);
+        } catch (RuntimeException e) {
+            recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * NRT reader 는 게시글마다가 아니라 전체를 추가한 뒤 한 번만 다시 엶
+     */
+    @Override
+    public void indexAll(List<ArticleIndexDto> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+        try {
+            for (ArticleIndexDto article : articles) {
+                updateDocument(article.id(), article.title(), article.content());
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            recordFailure();
+            throw new UncheckedIOException("게시글 일괄 색인 실패 - " + articles.size() + "건", e);
+        } catch (RuntimeException e) {
+            recordFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(Long articleId) {
+        try {
+            indexWriter.deleteDocuments(new Term(ID, String.valueOf(articleId)));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            recordFailure();
+            throw new UncheckedIOException("게시글 색인 삭제 실패 - articleId: " + articleId, e);
+        } catch (RuntimeException e) {
+            recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * 기동 시 색인을 DB 와 맞춤. 색인이 비어있거나(최초 기동) 동기화 시점 기록이 없거나 search.rebuild-on-startup 이면
+     * 전체 게시글로 다시 만들고, 그 외에는 마지막 커밋의 동기화 시점 이후 수정된 게시글만 다시 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() throws IOException {
+        LocalDateTime syncedAt = lastSyncedAt();
+        if (rebuildOnStartup || syncedAt == null || indexWriter.getDocStats().numDocs == 0) {
+            rebuild();
+        } else {
+            reindexModifiedSince(syncedAt.minus(RECONCILE_MARGIN));
+        }
+    }
+
+    /**
+     * 마지막 커밋 이후 변경이 있을 때만 디스크에 커밋. 커밋 전에 비정상 종료되면 그 사이 변경은 다음 기동 시 다시 색인함
+     */
+    @Scheduled(fixedDelayString = "${search.commit-interval:PT30S}")
+    public void commit() {
+        if (!indexWriter.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            commit(LocalDateTime.now());
+        } catch (IOException e) {
+            log.warn("검색 색인 커밋 실패!", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        commit(LocalDateTime.now());
+        indexWriter.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    private void rebuild() throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        indexWriter.deleteAll();
+        long count = 0;
+        ArticleCursor cursor = null;
+        Slice<ArticleSummaryDto> slice;
+        do {
+            slice = articleRepository.findSummariesByCursor(cursor, REBUILD_BATCH_SIZE);
+            for (ArticleSummaryDto summary : slice) {
+                updateDocument(summary.id(), summary.title(), summary.content());
+                cursor = ArticleCursor.of(summary.createdAt(), summary.id());
+                count++;
+            }
+        } while (slice.hasNext());
+        commit(startedAt);
+        searcherManager.maybeRefresh();
+        log.info("게시글 검색 색인 생성 완료 - {}건", count);
+    }
+
+    private void reindexModifiedSince(LocalDateTime modifiedSince) throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long count = 0;
+        Long afterId = null;
+        Slice<ArticleSummaryDto> slice;
+        do {
+            slice = articleRepository.findSummariesModifiedSince(modifiedSince, afterId, REBUILD_BATCH_SIZE);
+            for (ArticleSummaryDto summary : slice) {
+                updateDocument(summary.id(), summary.title(), summary.content());
+                afterId = summary.id();
+                count++;
+            }
+        } while (slice.hasNext());
+        commit(startedAt);
+        searcherManager.maybeRefresh();
+        log.info("게시글 검색 색인 동기화 완료 - modifiedSince: {}, {}건", modifiedSince, count);
+    }
+
+    /**
+     * 색인 실패가 있었다면 동기화 시점을 첫 실패 시각 이후로 넘기지 않아, 다음 기동 시 실패한 변경부터 다시 색인함
+     */
+    private void commit(LocalDateTime syncedAt) throws IOException {
+        LocalDateTime failedAt = firstFailedAt.get();
+        LocalDateTime committedSyncedAt = failedAt != null && failedAt.isBefore(syncedAt) ? failedAt : syncedAt;
+        indexWriter.setLiveCommitData(Map.of(SYNCED_AT, committedSyncedAt.toString()).entrySet());
+        indexWriter.commit();
+    }
+
+    private LocalDateTime lastSyncedAt() {
+        Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+        if (commitData == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (SYNCED_AT.equals(entry.getKey())) {
+                return LocalDateTime.parse(entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    private void recordFailure() {
+        firstFailedAt.compareAndSet(null, LocalDateTime.now());
+    }
+
+    /**
+     * 색인에는 있지만 DB 에서 삭제된 게시글(삭제 반영 실패)을 색인에서 지움
+     */
+    private void deleteMissing(List<Long> articleIds, List<ArticleSummaryDto> summaries) {
+        Set<Long> foundIds = summaries.stream().map(ArticleSummaryDto::id).collect(Collectors.toSet());
+        articleIds.stream()
+                .filter(articleId -> !foundIds.contains(articleId))
+                .forEach(articleId -> {
+                    try {
+                        delete(articleId);
+                    } catch (RuntimeException e) {
+                        log.warn("삭제된 게시글 색인 제거 실패! - articleId: {}", articleId, e);
+                    }
+                });
+    }
+
+    private void updateDocument(Long articleId, String title, String content) throws IOException {
+        indexWriter.updateDocument(new Term(ID, String.valueOf(articleId)), toDocument(articleId, title, content));
+    }
+
+    private Document toDocument(Long articleId, String title, String content) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(articleId), Field.Store.YES));
+        document.add(new TextField(TITLE, title, Field.Store.NO));
+        document.add(new TextField(CONTENT, content, Field.Store.NO));
+        return document;
+    }
+
+    private String field(SearchType searchType) {
+        return switch (searchType) {
+            case TITLE -> TITLE;
+            case CONTENT -> CONTENT;
+            default -> throw new IllegalArgumentException("지원하지 않는 검색 유형입니다. - searchType: " + searchType);
+        };
+    }
+}
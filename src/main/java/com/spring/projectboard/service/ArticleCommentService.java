@@ -4,16 +4,20 @@ import com.spring.projectboard.domain.Article;
 import com.spring.projectboard.domain.ArticleComment;
 import com.spring.projectboard.domain.UserAccount;
 import com.spring.projectboard.dto.ArticleCommentDto;
+import com.spring.projectboard.dto.ArticleCursor;
+import com.spring.projectboard.event.ArticleCommentEvent;
 import com.spring.projectboard.repository.ArticleCommentRepository;
 import com.spring.projectboard.repository.ArticleRepository;
 import com.spring.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Transactional
@@ -23,17 +27,33 @@ public class ArticleCommentService {
     private final UserAccountRepository userAccountRepository;
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 게시글의 최상위 댓글을 커서 기반으로 size 개씩 조회하고 각 댓글의 답글 수를 함께 반환 (쿼리 2회). 잘못된 커서는 첫 페이지로 취급
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleCommentDto> getComments(Long articleId, String cursor, int size) {
+        Slice<ArticleComment> rootComments = articleCommentRepository.findRootComments(articleId, decodeCursor(cursor), size);
+        Map<Long, Long> replyCounts = articleCommentRepository.countRepliesByRootCommentIds(
+                rootComments.map(ArticleComment::getId).getContent());
+
+        return rootComments.map(rootComment ->
+                ArticleCommentDto.from(rootComment, replyCounts.getOrDefault(rootComment.getId(), 0L)));
+    }
+
+    /**
+     * 최상위 댓글에 달린 답글을 커서 기반으로 size 개씩 조회. 잘못된 커서는 첫 페이지로 취급
+     */
     @Transactional(readOnly = true)
-    public List<ArticleCommentDto> getComments(Long articleId) {
-        return articleCommentRepository.findByArticleId(articleId)
-                .stream()
-                .map(ArticleCommentDto::from)
-                .toList();
+    public Slice<ArticleCommentDto> getReplies(Long rootCommentId, String cursor, int size) {
+        return articleCommentRepository.findReplies(rootCommentId, decodeCursor(cursor), size)
+                .map(ArticleCommentDto::from);
     }
 
     /**
-     * 부모 댓글 ID가 존재하면 자식 댓글이므로 부모 댓글의 자식 댓글 collection 에 추가, null 이면 부모 댓글 추가
+     * 부모 댓글 ID가 존재하면 자식 댓글이므로 부모 댓글의 자식 댓글 collection 에도 추가.
+     * 저장한 댓글 ID 를 바로 반환할 수 있도록 답글도 즉시 저장하고, 저장 후 게시글의 댓글 수 증가
      */
     public Long saveComment(ArticleCommentDto dto) {
         try{
@@ -43,9 +63,10 @@ public class ArticleCommentService {
             if (dto.parentCommentId() != null) {
                 ArticleComment parentComment = articleCommentRepository.getReferenceById(dto.parentCommentId());
                 parentComment.addChildComment(articleComment);
-            } else {
-                articleCommentRepository.save(articleComment);
             }
+            articleCommentRepository.save(articleComment);
+            articleRepository.addCommentCount(dto.articleId(), 1L);
+            eventPublisher.publishEvent(ArticleCommentEvent.created(dto.articleId(), articleComment.getId()));
             return articleComment.getId();
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패! 댓글 작성에 필요한 정보를 찾을 수 없습니다. - {}", e);
@@ -53,6 +74,18 @@ public class ArticleCommentService {
         }
     }
 
+    /**
+     * 댓글이 속한 스레드(최상위 댓글) ID. 최상위 댓글이면 자신의 ID, 댓글이 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public Long getThreadId(Long commentId) {
+        return articleCommentRepository.findById(commentId)
+                .map(articleComment -> articleComment.getRootCommentId() != null
+                        ? articleComment.getRootCommentId()
+                        : articleComment.getId())
+                .orElse(null);
+    }
+
     public void updateComment(ArticleCommentDto dto) {
         try {
             ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
@@ -64,7 +97,26 @@ public class ArticleCommentService {
         }
     }
 
+    /**
+     * 하위 댓글도 함께 삭제되므로 삭제된 댓글 수만큼 게시글의 댓글 수 감소
+     */
     public void deleteComment(Long commentId, String userId) {
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(commentId, userId);
+        articleCommentRepository.findByIdAndUserAccount_UserId(commentId, userId)
+                .ifPresent(articleComment -> {
+                    Long articleId = articleComment.getArticle().getId();
+                    long deletedCount = articleCommentRepository.countSubtree(commentId, articleComment.getRootCommentId());
+                    articleCommentRepository.delete(articleComment);
+                    articleRepository.addCommentCount(articleId, -deletedCount);
+                    eventPublisher.publishEvent(ArticleCommentEvent.deleted(articleId, commentId));
+                });
+    }
+
+    private ArticleCursor decodeCursor(String cursor) {
+        try {
+            return ArticleCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 커서로 댓글 조회! 첫 페이지를 반환합니다. - {}", e.getMessage());
+            return null;
+        }
     }
 }
@@ -0,0 +1,112 @@
+package com.spring.projectboard.service;
+
+import com.spring.projectboard.domain.constant.SearchType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색 조건별 게시글 수를 캐싱하여 페이지네이션 바에 사용할 대략적인 전체 건수 제공.
+ * 요청 스레드는 COUNT 쿼리를 기다리지 않고, 캐시가 없거나 오래되면 백그라운드에서 다시 셈.
+ * 백그라운드 COUNT 는 요청 트랜잭션 밖에서 실행되므로 읽기 전용 트랜잭션을 열어 읽기 전용 DB 로 보냄.
+ * 검색 조건 수가 MAX_KEYS 를 넘으면 자주 쓰이지 않는 조건부터 제거
+ */
+@Slf4j
+@Component
+public class ArticleCountCache {
+    private static final Duration REFRESH_AFTER = Duration.ofSeconds(30);
+    private static final int MAX_KEYS = 1_000;
+
+    private final Cache<String, CachedCount> counts = Caffeine.newBuilder()
+            .maximumSize(MAX_KEYS)
+            .build();
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ArticleCountCache(
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor,
+            PlatformTransactionManager transactionManager) {
+        this.taskExecutor = taskExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public static String key(SearchType searchType, String searchKeyword) {
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            return "";
+        }
+        return searchType + ":" + searchKeyword;
+    }
+
+    /**
+     * 슬라이스로 확인한 최소 건수와 캐싱된 건수 중 큰 값을 전체 건수로 하는 페이지 반환.
+     * 다음 페이지가 없으면 전체 건수가 확정되므로 캐시를 사용하지 않음
+     */
+    public <T> Page<T> toPage(Slice<T> slice, String key, LongSupplier counter) {
+        long knownCount = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+        if (!slice.hasNext()) {
+            return new PageImpl<>(slice.getContent(), slice.getPageable(), knownCount);
+        }
+        long total = Math.max(knownCount + 1, getCount(key, counter));
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /**
+     * 캐싱된 건수, 없으면 0. 없거나 오래된 경우 비동기로 갱신 요청
+     */
+    public long getCount(String key, LongSupplier counter) {
+        CachedCount cached = counts.getIfPresent(key);
+        if (cached == null || cached.isStale()) {
+            refreshAsync(key, counter);
+        }
+        return cached == null ? 0 : cached.count();
+    }
+
+    /**
+     * 같은 키에 대해 동시에 하나의 COUNT 쿼리만 실행
+     */
+    private void refreshAsync(String key, LongSupplier counter) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    long count = readOnlyTransaction.execute(status -> counter.getAsLong());
+                    counts.put(key, new CachedCount(count, System.nanoTime()));
+                } catch (RuntimeException e) {
+                    log.warn("게시글 수 갱신 실패! - key: {}", key, e);
+                } finally {
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshingKeys.remove(key);
+            log.warn("게시글 수 갱신 요청 거부 - key: {}", key);
+        }
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+        boolean isStale() {
+            return System.nanoTime() - loadedAt > REFRESH_AFTER.toNanos();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.spring.projectboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.projectboard.domain.constant.ExportFormat;
+import com.spring.projectboard.dto.ArticleCommentExportDto;
+import com.spring.projectboard.dto.ArticleExportDto;
+import com.spring.projectboard.repository.ArticleCommentRepository;
+import com.spring.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 게시글, 댓글 전체를 DB 커서로 한 행씩 읽어 바로 출력 스트림에 씀. 메모리에는 버퍼와 현재 행만 유지
+ */
+@Slf4j
+@Transactional(readOnly = true)
+@Service
+@RequiredArgsConstructor
+public class ArticleExportService {
+    private static final List<String> ARTICLE_COLUMNS = List.of(
+            "id", "userId", "title", "content", "commentCount", "viewCount",
+            "createdAt", "createdBy", "modifiedAt", "modifiedBy");
+    private static final List<String> COMMENT_COLUMNS = List.of(
+            "id", "articleId", "userId", "parentCommentId", "rootCommentId", "content",
+            "createdAt", "createdBy", "modifiedAt", "modifiedBy");
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * NDJSON 의 한 줄은 게시글 대량 등록(JSONL) 입력으로 다시 사용할 수 있음
+     */
+    public long exportArticles(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<ArticleExportDto> articles = articleRepository.streamAllForExport()) {
+            return write(articles, format, ARTICLE_COLUMNS, article -> Arrays.asList(
+                    article.id(), article.userId(), article.title(), article.content(),
+                    article.commentCount(), article.viewCount(),
+                    article.createdAt(), article.createdBy(), article.modifiedAt(), article.modifiedBy()
+            ), outputStream);
+        }
+    }
+
+    public long exportArticleComments(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<ArticleCommentExportDto> comments = articleCommentRepository.streamAllForExport()) {
+            return write(comments, format, COMMENT_COLUMNS, comment -> Arrays.asList(
+                    comment.id(), comment.articleId(), comment.userId(),
+                    comment.parentCommentId(), comment.rootCommentId(), comment.content(),
+                    comment.createdAt(), comment.createdBy(), comment.modifiedAt(), comment.modifiedBy()
+            ), outputStream);
+        }
+    }
+
+    /**
+     * 출력 스트림은 닫지 않고 버퍼만 비움 (gzip 등 감싼 스트림의 마무리는 호출한 쪽에서 처리)
+     */
+    private <T> long write(Stream<T> rows, ExportFormat format, List<String> columns,
+                           Function<T, List<Object>> csvValues, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns);
+        }
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            switch (format) {
+                case NDJSON -> {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                case CSV -> writeCsvLine(writer, csvValues.apply(row));
+            }
+            count++;
+        }
+        writer.flush();
+        log.debug("내보내기 완료 - format: {}, rows: {}", format, count);
+        return count;
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180. 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 큰따옴표는 두 번 씀. null 은 빈 값
+     */
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -3,20 +3,32 @@ package com.spring.projectboard.service;
 import com.spring.projectboard.domain.Article;
 import com.spring.projectboard.domain.Hashtag;
 import com.spring.projectboard.domain.UserAccount;
+import com.spring.projectboard.domain.constant.HashtagMatchMode;
 import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleCommentDto;
+import com.spring.projectboard.dto.ArticleCursor;
 import com.spring.projectboard.dto.ArticleDto;
+import com.spring.projectboard.dto.ArticleSummaryDto;
+import com.spring.projectboard.dto.ArticleVersionDto;
 import com.spring.projectboard.dto.ArticleWithCommentsDto;
+import com.spring.projectboard.event.ArticleEvent;
 import com.spring.projectboard.repository.ArticleRepository;
 import com.spring.projectboard.repository.UserAccountRepository;
+import com.spring.projectboard.search.ArticleSearchEngine;
+import com.spring.projectboard.util.HashtagTokenizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,37 +40,111 @@ public class ArticleService {
     private final HashtagService hashtagService;
     private final UserAccountRepository userAccountRepository;
     private final ArticleRepository articleRepository;
+    private final ArticleCommentService articleCommentService;
+    private final ArticleSearchEngine articleSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleCountCache articleCountCache;
+    private final ArticleViewCounter articleViewCounter;
+    private final TrendingArticleRanking trendingArticleRanking;
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
-        if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
-        }
-        return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(Arrays.stream(searchKeyword.split(" ")).toList(), pageable).map(ArticleDto::from);
-        };
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        return searchArticles(searchType, searchKeyword, HashtagMatchMode.ALL, pageable);
     }
 
+    /**
+     * 제목, 본문 키워드 검색은 검색 엔진으로, 해시태그 검색은 해시태그 교집합/합집합으로, 그 외는 DB 로 조회
+     */
     @Transactional(readOnly = true)
-    public ArticleDto getArticleDtoByPageIndex(int articleIndex, Pageable pageable) {
-        try {
-            return ArticleDto.from(getArticleByPageIndex(articleIndex, pageable));
-        } catch (IndexOutOfBoundsException e) {
-            throw new EntityNotFoundException(e.getMessage());
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, HashtagMatchMode matchMode, Pageable pageable) {
+        if (searchKeyword != null && !searchKeyword.isBlank()) {
+            if (searchType == SearchType.TITLE || searchType == SearchType.CONTENT) {
+                return articleSearchEngine.search(searchType, searchKeyword, pageable);
+            }
+            if (searchType == SearchType.HASHTAG) {
+                Set<String> hashtagNames = HashtagTokenizer.tokenizeKeyword(searchKeyword);
+                return articleCountCache.toPage(
+                        articleRepository.findSummariesByHashtagNames(hashtagNames, matchMode, pageable),
+                        ArticleCountCache.key(searchType, matchMode + ":" + String.join(" ", hashtagNames)),
+                        () -> articleRepository.countByHashtagNames(hashtagNames, matchMode)
+                );
+            }
         }
+        return articleCountCache.toPage(
+                articleRepository.findSummarySlice(searchType, searchKeyword, pageable),
+                ArticleCountCache.key(searchType, searchKeyword),
+                () -> articleRepository.countSummaries(searchType, searchKeyword)
+        );
     }
 
+    /**
+     * 커서 기반(키셋) 게시글 목록 조회. 잘못된 커서는 첫 페이지로 취급
+     */
     @Transactional(readOnly = true)
-    public ArticleWithCommentsDto getArticleWithCommentsDtoByPageIndex(int articleIndex, Pageable pageable) {
+    public Slice<ArticleSummaryDto> searchArticlesByCursor(String cursor, int size) {
+        ArticleCursor articleCursor;
         try {
-            return ArticleWithCommentsDto.from(getArticleByPageIndex(articleIndex, pageable));
-        } catch (IndexOutOfBoundsException e) {
-            throw new EntityNotFoundException(e.getMessage());
+            articleCursor = ArticleCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 커서로 게시글 조회! 첫 페이지를 반환합니다. - {}", e.getMessage());
+            articleCursor = null;
         }
+        return articleRepository.findSummariesByCursor(articleCursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public ArticleDto getArticle(Long articleId) {
+        return articleRepository.findById(articleId)
+                .map(ArticleDto::from)
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+    }
+
+    /**
+     * 조건부 GET 에 사용할 게시글 검증값. 게시글, 댓글을 읽기 전에 확인함.
+     * 이전 게시글(목록에서 한 단계 더 최근), 다음 게시글(한 단계 더 오래된) ID 는 (createdAt, id) 인덱스 탐색으로 함께 채움
+     */
+    @Transactional(readOnly = true)
+    public ArticleVersionDto getArticleVersion(Long articleId) {
+        ArticleVersionDto version = articleRepository.findVersionById(articleId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+        return version.withNeighbourIds(
+                articleRepository.findPreviousId(version.cursor()).orElse(null),
+                articleRepository.findNextId(version.cursor()).orElse(null)
+        );
+    }
+
+    /**
+     * 최상위 댓글만 커서 기반으로 commentSize 개 조회하고 답글은 답글 수만 포함. 답글 본문은 ArticleCommentService.getReplies 로 따로 조회
+     */
+    @Transactional(readOnly = true)
+    public ArticleWithCommentsDto getArticleWithComments(Long articleId, String commentCursor, int commentSize) {
+        Article article = articleRepository.findDetailById(articleId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+
+        Slice<ArticleCommentDto> rootComments = articleCommentService.getComments(articleId, commentCursor, commentSize);
+        return ArticleWithCommentsDto.from(article, rootComments.getContent(), rootComments.hasNext());
+    }
+
+    /**
+     * 인기 게시글 순위에서 페이지에 해당하는 게시글 목록 조회. 전체 게시글을 DB 에서 정렬하지 않고 순위에 오른 ID 로만 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<ArticleSummaryDto> getTrendingArticles(Pageable pageable) {
+        List<Long> articleIds = trendingArticleRanking.getTopArticleIds(pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(
+                articleRepository.findSummariesByIds(articleIds),
+                pageable,
+                trendingArticleRanking.size()
+        );
+    }
+
+    /**
+     * 조회수는 메모리에 모아두었다가 주기적으로 반영. DB 작업이 없으므로 트랜잭션을 시작하지 않음
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void increaseViewCount(Long articleId) {
+        articleViewCounter.increment(articleId);
+        trendingArticleRanking.recordView(articleId);
     }
 
     /**
@@ -66,12 +152,13 @@ public class ArticleService {
      */
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
+        Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content(), dto.userAccountDto().userId());
 
         Article article = dto.toEntity(userAccount);
         article.addHashtags(hashtags);
 
-        articleRepository.save(article);
+        Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleEvent.created(savedArticle));
     }
 
     public void updateArticle(Long articleId, ArticleDto articleDto) {
@@ -92,15 +179,20 @@ public class ArticleService {
                 Set<Long> hashtagIds = article.getHashtags().stream()
                         .map(Hashtag::getId)
                         .collect(Collectors.toUnmodifiableSet());
+                Set<String> previousHashtagNames = article.getHashtags().stream()
+                        .map(Hashtag::getHashtagName)
+                        .collect(Collectors.toUnmodifiableSet());
                 article.clearHashtags();
                 articleRepository.flush();
 
                 //어떤 게시글에도 없는 해시태그 삭제
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+                hashtagService.deleteHashtagsWithoutArticles(hashtagIds);
 
                 //업데이트된 본문에서 해시태그를 파싱하여 추가
-                Set<Hashtag> hashtags = renewHashtagsFromContent(articleDto.content());
+                Set<Hashtag> hashtags = renewHashtagsFromContent(articleDto.content(), articleDto.userAccountDto().userId());
                 article.addHashtags(hashtags);
+
+                eventPublisher.publishEvent(ArticleEvent.updated(article, previousHashtagNames));
             }
         } catch (EntityNotFoundException e) {
             log.warn("게시글 업데이트 실패! 게시글을 수정하는데 필요한 정보를 찾을 수 없습니다 - {}", e);
@@ -112,53 +204,35 @@ public class ArticleService {
         Set<Long> hashtagIds = article.getHashtags().stream()
                 .map(Hashtag::getId)
                 .collect(Collectors.toUnmodifiableSet());
+        Set<String> hashtagNames = article.getHashtags().stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
 
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+        long deletedCount = articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
         articleRepository.flush();
 
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
-    }
-
-    @Transactional(readOnly = true)
-    public long getArticleCount() {
-        return articleRepository.count();
+        hashtagService.deleteHashtagsWithoutArticles(hashtagIds);
+        if (deletedCount > 0) {
+            eventPublisher.publishEvent(ArticleEvent.deleted(articleId, hashtagNames));
+        }
     }
 
     /**
-     * 주어진 해시태그를 가지는 게시글들을 조회
+     * 주어진 해시태그를 가지는 게시글들을 목록 화면과 같은 DTO 조회, 게시글 수 캐시로 조회
      */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticleDtosViaHashtag(String hashtagName, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticlesViaHashtag(String hashtagName, Pageable pageable) {
         if (hashtagName == null || hashtagName.isBlank()) {
             return Page.empty(pageable);
         }
-        return articleRepository.findByHashtagNames(Set.of(hashtagName), pageable).map(ArticleDto::from);
+        return searchArticles(SearchType.HASHTAG, hashtagName, HashtagMatchMode.ALL, pageable);
     }
 
     /**
-     * 본문에서 해시태그를 파싱하고 이미 DB에 존재하고 있는 해시태그를 제외한 해시태그들만 새로 만들어서(새로운 ID) 추가
+     * 본문에서 해시태그를 파싱하여 DB에 없는 해시태그는 한 번에 저장하고, 본문의 해시태그 엔티티들을 반환
      */
-    private Set<Hashtag> renewHashtagsFromContent(String content) {
+    private Set<Hashtag> renewHashtagsFromContent(String content, String userId) {
         Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
-        Set<Hashtag> hashtags = hashtagService.findHashtagByNames(hashtagNamesInContent);
-
-        Set<String> existingHashtagNames = hashtags.stream()
-                .map(Hashtag::getHashtagName)
-                .collect(Collectors.toUnmodifiableSet());
-
-        hashtagNamesInContent.forEach(newHashtagName -> {
-            if (!existingHashtagNames.contains(newHashtagName)) {
-                hashtags.add(Hashtag.of(newHashtagName));
-            }
-        });
-
-        return hashtags;
-    }
-
-    @Transactional(readOnly = true)
-    public Article getArticleByPageIndex(int articleIndex, Pageable pageable) {
-        return articleRepository.findAll(pageable)
-                .getContent()
-                .get(articleIndex);
+        return hashtagService.saveHashtags(hashtagNamesInContent, userId);
     }
 }
@@ -0,0 +1,67 @@
+package com.spring.projectboard.service;
+
+import com.spring.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 게시글별 LongAdder 에 모아두었다가 주기적으로 DB 에 한 번에 더함.
+ * 인기 게시글의 조회마다 같은 행을 잠그지 않기 위함이며, 반영 전 서버가 비정상 종료되면 모아둔 조회수는 유실됨
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleViewCounter {
+    private final ArticleRepository articleRepository;
+
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public void increment(Long articleId) {
+        pendingViews.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long getPendingViews(Long articleId) {
+        LongAdder views = pendingViews.get(articleId);
+        return views == null ? 0L : views.sum();
+    }
+
+    /**
+     * 모아둔 조회수를 게시글별 UPDATE 를 묶은 배치 하나, 트랜잭션 하나로 반영. 실패하면 모든 조회수를 다음 반영 때 다시 시도.
+     * 조회가 없던 게시글은 맵에서 제거하므로, 제거와 동시에 들어온 조회 1건은 드물게 유실될 수 있음
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval:PT5S}")
+    @PreDestroy
+    public void flush() {
+        Map<Long, Long> viewCounts = new HashMap<>();
+        Map<Long, LongAdder> flushedViews = new HashMap<>();
+        pendingViews.forEach((articleId, views) -> {
+            long delta = views.sumThenReset();
+            if (delta == 0L) {
+                pendingViews.remove(articleId, views);
+                return;
+            }
+            viewCounts.put(articleId, delta);
+            flushedViews.put(articleId, views);
+        });
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        try {
+            articleRepository.addViewCounts(viewCounts);
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 실패! 다음 주기에 다시 시도합니다. - articles: {}", viewCounts.size(), e);
+            viewCounts.forEach((articleId, delta) -> flushedViews.get(articleId).add(delta));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.spring.projectboard.service;
+
+import com.spring.projectboard.dto.HashtagCountDto;
+import com.spring.projectboard.event.ArticleEvent;
+import com.spring.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시태그별 게시글 수를 메모리에 두고 게시글 변경 이벤트로 증감하여 인기 해시태그 제공.
+ * 처음 조회할 때 DB 에서 한 번 집계하고, invalidate 이후에는 다음 조회 시 다시 집계
+ */
+@RequiredArgsConstructor
+@Component
+public class HashtagCloudCache {
+    private static final Comparator<HashtagCountDto> POPULARITY = Comparator
+            .comparingLong(HashtagCountDto::articleCount).reversed()
+            .thenComparing(HashtagCountDto::hashtagName);
+
+    private final HashtagRepository hashtagRepository;
+
+    private final Map<String, Long> counts = new HashMap<>();
+    private boolean loaded = false;
+    private volatile List<HashtagCountDto> ranking;
+
+    /**
+     * 게시글 수가 많은 순(같으면 이름순)으로 최대 limit 개의 해시태그 반환
+     */
+    public List<HashtagCountDto> getTopHashtags(int limit) {
+        List<HashtagCountDto> snapshot = ranking;
+        if (snapshot == null) {
+            snapshot = rebuildRanking();
+        }
+        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+    }
+
+    /**
+     * 커밋된 게시글 변경만 반영. 아직 집계 전이면 다음 조회 시 DB 에서 집계하므로 무시
+     */
+    @TransactionalEventListener
+    public synchronized void onArticleEvent(ArticleEvent event) {
+        if (!loaded) {
+            return;
+        }
+        event.addedHashtagNames().forEach(hashtagName -> counts.merge(hashtagName, 1L, Long::sum));
+        event.removedHashtagNames().forEach(hashtagName ->
+                counts.computeIfPresent(hashtagName, (name, count) -> count > 1 ? count - 1 : null));
+        ranking = null;
+    }
+
+    /**
+     * 이벤트를 거치지 않고 해시태그가 변경된 경우(대량 등록 등) 호출
+     */
+    public synchronized void invalidate() {
+        loaded = false;
+        counts.clear();
+        ranking = null;
+    }
+
+    private synchronized List<HashtagCountDto> rebuildRanking() {
+        if (ranking != null) {
+            return ranking;
+        }
+        if (!loaded) {
+            hashtagRepository.findHashtagCounts()
+                    .forEach(hashtagCount -> counts.put(hashtagCount.hashtagName(), hashtagCount.articleCount()));
+            loaded = true;
+        }
+        List<HashtagCountDto> sorted = counts.entrySet().stream()
+                .map(entry -> HashtagCountDto.of(entry.getKey(), entry.getValue()))
+                .sorted(POPULARITY)
+                .toList();
+        ranking = sorted;
+        return sorted;
+    }
+}
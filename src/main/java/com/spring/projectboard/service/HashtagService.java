@@ -1,17 +1,18 @@
 package com.spring.projectboard.service;
 
 import com.spring.projectboard.domain.Hashtag;
+import com.spring.projectboard.dto.HashtagCountDto;
 import com.spring.projectboard.repository.HashtagRepository;
+import com.spring.projectboard.util.HashtagTokenizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Transactional
@@ -19,24 +20,14 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class HashtagService {
     private final HashtagRepository hashtagRepository;
+    private final HashtagCloudCache hashtagCloudCache;
 
     /**
      * 본문에서 해시태그 파싱
      */
     @Transactional(readOnly = true)
     public Set<String> parseHashtagNames(String content) {
-        if (content == null || content.isBlank()) {
-            return Set.of();
-        }
-        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
-        Matcher matcher = pattern.matcher(content);
-        Set<String> result = new HashSet<>();
-
-        while (matcher.find()) {
-            result.add(matcher.group().replace("#", ""));
-        }
-
-        return Set.copyOf(result);
+        return HashtagTokenizer.tokenize(content);
     }
 
     /**
@@ -48,16 +39,28 @@ public class HashtagService {
     }
 
     /**
-     * 어떤 게시글에도 가지지않는 해시태그 삭제
+     * 해시태그들 중 DB에 없는 해시태그를 한 번에 저장하고 전체 해시태그 엔티티 반환
      */
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
-        if (hashtag.getArticles().isEmpty()) {
-            hashtagRepository.delete(hashtag);
+    public Set<Hashtag> saveHashtags(Set<String> hashtagNames, String createdBy) {
+        if (hashtagNames.isEmpty()) {
+            return new HashSet<>();
         }
+        hashtagRepository.upsertHashtagNames(hashtagNames, createdBy);
+        return findHashtagByNames(hashtagNames);
     }
 
-    public List<String> getHashtags() {
-        return hashtagRepository.findAllHashtagNames();
+    /**
+     * 해시태그들 중 어떤 게시글에도 없는 해시태그 삭제
+     */
+    public void deleteHashtagsWithoutArticles(Collection<Long> hashtagIds) {
+        hashtagRepository.deleteOrphansByIdIn(hashtagIds);
+    }
+
+    /**
+     * 게시글 수가 많은 순으로 최대 limit 개의 해시태그 반환
+     */
+    @Transactional(readOnly = true)
+    public List<HashtagCountDto> getPopularHashtags(int limit) {
+        return hashtagCloudCache.getTopHashtags(limit);
     }
 }
@@ -0,0 +1,177 @@
+package com.spring.projectboard.service;
+
+import com.spring.projectboard.dto.ArticleActivityDto;
+import com.spring.projectboard.event.ArticleCommentEvent;
+import com.spring.projectboard.event.ArticleEvent;
+import com.spring.projectboard.repository.ArticleRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 조회, 댓글, 작성 시각으로 게시글 인기 점수를 매겨 상위 게시글을 메모리에 유지.
+ * 활동 하나의 점수는 반감기(halfLife)마다 절반이 되며, 모든 점수를 다시 계산하지 않도록
+ * 점수를 "기준 시각에서의 가중치 x 2^(경과 시간 / 반감기)" 의 로그로 저장하여 활동이 생길 때마다 해당 게시글만 갱신.
+ * 처음 조회할 때 최근 게시글의 댓글 수, 조회수로 점수를 채움 (활동 시각은 작성 시각으로 간주)
+ */
+@RequiredArgsConstructor
+@Component
+public class TrendingArticleRanking {
+    private static final Comparator<RankedArticle> RANKING_ORDER = Comparator
+            .comparingDouble(RankedArticle::logScore).reversed()
+            .thenComparing(Comparator.comparingLong(RankedArticle::articleId).reversed());
+
+    private final ArticleRepository articleRepository;
+    private final TrendingProperties trendingProperties;
+
+    private final Map<Long, RankedArticle> scores = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<RankedArticle> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+    private volatile boolean loaded = false;
+
+    /**
+     * 점수 높은 순으로 offset 부터 최대 limit 개의 게시글 ID
+     */
+    public List<Long> getTopArticleIds(long offset, int limit) {
+        loadIfNecessary();
+        return ranking.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(RankedArticle::articleId)
+                .toList();
+    }
+
+    /**
+     * 순위에 올라 있는 게시글 수 (최대 capacity)
+     */
+    public int size() {
+        loadIfNecessary();
+        return scores.size();
+    }
+
+    public void recordView(Long articleId) {
+        record(articleId, trendingProperties.getViewWeight(), System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.type()) {
+            case CREATED -> record(event.articleId(), trendingProperties.getArticleWeight(), System.currentTimeMillis());
+            case DELETED -> remove(event.articleId());
+            default -> { }
+        }
+    }
+
+    /**
+     * 삭제된 댓글의 점수는 되돌리지 않음 (이미 발생한 활동으로 취급)
+     */
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        if (event.type() == ArticleCommentEvent.Type.CREATED) {
+            record(event.articleId(), trendingProperties.getCommentWeight(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 집계 전에는 활동을 무시. 처음 조회할 때 DB 의 댓글 수, 조회수로 한 번에 채움
+     */
+    void record(Long articleId, double weight, long epochMillis) {
+        if (!loaded || weight <= 0) {
+            return;
+        }
+        add(articleId, weight, epochMillis);
+    }
+
+    void remove(Long articleId) {
+        RankedArticle removed = scores.remove(articleId);
+        if (removed != null) {
+            ranking.remove(removed);
+        }
+    }
+
+    /**
+     * 같은 게시글의 갱신은 ConcurrentHashMap.compute 로 직렬화하고 순위 집합은 동시에 갱신.
+     * capacity 를 넘으면 점수가 가장 낮은 게시글부터 제외
+     */
+    private void add(Long articleId, double weight, long epochMillis) {
+        double logPoints = Math.log(weight) + epochMillis * Math.log(2) / trendingProperties.getHalfLife().toMillis();
+        scores.compute(articleId, (id, previous) -> {
+            RankedArticle next = new RankedArticle(id, previous == null ? logPoints : logSum(previous.logScore(), logPoints));
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            ranking.add(next);
+            return next;
+        });
+
+        while (scores.size() > trendingProperties.getCapacity()) {
+            RankedArticle lowest = ranking.pollLast();
+            if (lowest == null) {
+                break;
+            }
+            scores.remove(lowest.articleId(), lowest);
+        }
+    }
+
+    private synchronized void loadIfNecessary() {
+        if (loaded) {
+            return;
+        }
+        LocalDateTime since = LocalDateTime.now().minus(trendingProperties.getSeedWindow());
+        for (ArticleActivityDto activity : articleRepository.findActivitiesCreatedAfter(since, trendingProperties.getCapacity())) {
+            double weight = trendingProperties.getArticleWeight()
+                    + activity.commentCount() * trendingProperties.getCommentWeight()
+                    + activity.viewCount() * trendingProperties.getViewWeight();
+            long createdAt = activity.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            add(activity.id(), weight, createdAt);
+        }
+        loaded = true;
+    }
+
+    /**
+     * log(e^a + e^b) 를 넘침 없이 계산
+     */
+    private static double logSum(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private record RankedArticle(long articleId, double logScore) {
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("trending")
+    public static class TrendingProperties {
+        /**
+         * 활동 점수가 절반이 되는 시간
+         */
+        private final Duration halfLife;
+        /**
+         * 메모리에 유지할 최대 게시글 수
+         */
+        private final int capacity;
+        /**
+         * 처음 집계할 때 불러올 게시글의 작성 기간
+         */
+        private final Duration seedWindow;
+        /**
+         * 게시글 작성, 댓글 1개, 조회 1회의 가중치
+         */
+        private final double articleWeight;
+        private final double commentWeight;
+        private final double viewWeight;
+    }
+}
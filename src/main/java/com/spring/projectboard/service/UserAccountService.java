@@ -1,29 +1,58 @@
 package com.spring.projectboard.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.spring.projectboard.domain.UserAccount;
 import com.spring.projectboard.dto.UserAccountDto;
 import com.spring.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class UserAccountService {
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final Duration CACHED_USER_TTL = Duration.ofMinutes(10);
+
     private final UserAccountRepository userAccountRepository;
+    private final Cache<String, UserAccountDto> userCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_USERS)
+            .expireAfterWrite(CACHED_USER_TTL)
+            .build();
 
-    @Transactional(readOnly = true)
+    /**
+     * 로그인마다 호출되므로 조회한 회원을 캐싱. 캐시에 있으면 트랜잭션(커넥션)도 사용하지 않음
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<UserAccountDto> searchUser(String username) {
-        return userAccountRepository.findById(username)
+        UserAccountDto cachedUser = userCache.getIfPresent(username);
+        if (cachedUser != null) {
+            return Optional.of(cachedUser);
+        }
+        Optional<UserAccountDto> user = userAccountRepository.findById(username)
                 .map(UserAccountDto::from);
+        user.ifPresent(userAccountDto -> userCache.put(username, userAccountDto));
+        return user;
     }
 
     public UserAccountDto saveUser(String username, String userPassword, String email, String nickname, String memo) {
+        evictUser(username);
         return UserAccountDto.from(
                 userAccountRepository.save(UserAccount.of(username, userPassword, email, nickname, memo, username))
         );
     }
+
+    /**
+     * 회원 정보(비밀번호, 닉네임 등)가 바뀌면 호출하여 다음 로그인 때 다시 조회되도록 함.
+     * REST API 로 변경된 경우는 UserAccountRepositoryEventHandler 가 호출
+     */
+    public void evictUser(String username) {
+        userCache.invalidate(username);
+    }
 }
@@ -0,0 +1,103 @@
+package com.spring.projectboard.util;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 본문에서 해시태그 추출. '#' 뒤에 이어지는 영문, 숫자, '_', 한글 음절을 해시태그 이름으로 취급하고
+ * 영문은 소문자로 바꾸며 {@link #MAX_LENGTH} 자를 넘으면 자름
+ */
+public final class HashtagTokenizer {
+    public static final int MAX_LENGTH = 50;
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("#([\\w가-힣]+)");
+
+    private HashtagTokenizer() {
+    }
+
+    /**
+     * 본문을 한 번만 훑으며 추출. 정규식 엔진과 매칭마다 생기는 중간 문자열 없이 해시태그 이름만 생성
+     */
+    public static Set<String> tokenize(CharSequence text) {
+        if (text == null) {
+            return Set.of();
+        }
+        Set<String> hashtagNames = null;
+        int length = text.length();
+        int index = 0;
+        while (index < length) {
+            if (text.charAt(index++) != '#') {
+                continue;
+            }
+            int start = index;
+            while (index < length && isHashtagChar(text.charAt(index))) {
+                index++;
+            }
+            if (index > start) {
+                if (hashtagNames == null) {
+                    hashtagNames = new LinkedHashSet<>();
+                }
+                hashtagNames.add(normalize(text, start, index));
+            }
+        }
+        return hashtagNames == null ? Set.of() : Collections.unmodifiableSet(hashtagNames);
+    }
+
+    /**
+     * 해시태그 검색어를 해시태그 이름들로 변환. '#' 은 붙이지 않아도 되며 공백, 쉼표 등으로 구분된 단어마다 하나의 해시태그로 취급
+     */
+    public static Set<String> tokenizeKeyword(CharSequence keyword) {
+        if (keyword == null) {
+            return Set.of();
+        }
+        Set<String> hashtagNames = new LinkedHashSet<>();
+        int length = keyword.length();
+        int index = 0;
+        while (index < length) {
+            if (!isHashtagChar(keyword.charAt(index))) {
+                index++;
+                continue;
+            }
+            int start = index;
+            while (index < length && isHashtagChar(keyword.charAt(index))) {
+                index++;
+            }
+            hashtagNames.add(normalize(keyword, start, index));
+        }
+        return Collections.unmodifiableSet(hashtagNames);
+    }
+
+    /**
+     * 미리 컴파일된 정규식으로 추출. {@link #tokenize(CharSequence)} 와 같은 결과를 반환하며 비교, 검증용으로 사용
+     */
+    public static Set<String> tokenizeWithRegex(CharSequence text) {
+        if (text == null) {
+            return Set.of();
+        }
+        Set<String> hashtagNames = new LinkedHashSet<>();
+        Matcher matcher = HASHTAG_PATTERN.matcher(text);
+        while (matcher.find()) {
+            hashtagNames.add(normalize(text, matcher.start(1), matcher.end(1)));
+        }
+        return Collections.unmodifiableSet(hashtagNames);
+    }
+
+    private static boolean isHashtagChar(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '_'
+                || (c >= '가' && c <= '힣');
+    }
+
+    private static String normalize(CharSequence text, int start, int end) {
+        char[] chars = new char[Math.min(end - start, MAX_LENGTH)];
+        for (int i = 0; i < chars.length; i++) {
+            char c = text.charAt(start + i);
+            chars[i] = (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+        return new String(chars);
+    }
+}
@@ -434,11 +434,11 @@ insert into article_comment (article_id, user_id, parent_comment_id, content, cr
 (19, 'joo', null, 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-05-07 23:57:29', '2021-04-03 21:55:11', 'Oliver', 'Graehme');
 
 -- 대댓글
-insert into article_comment (article_id, user_id, parent_comment_id, content, created_at, modified_at, created_by, modified_by) values
-(69, 'joo', 1, '퍼가요~', '2021-03-02 22:40:04', '2021-04-27 15:38:09', 'Joo', 'Joo'),
-(69, 'a', 1, '퍼가요~', '2021-03-03 22:40:04', '2021-04-27 15:38:09', 'A', 'A'),
-(69, 'joo', 1, '또 퍼가요~', '2021-03-04 22:40:04', '2021-04-27 15:38:09', 'Joo', 'Joo'),
-(69, 'joo', 1, '또또 퍼가요~', '2021-03-05 22:40:04', '2021-04-27 15:38:09', 'Joo', 'Joo');
+insert into article_comment (article_id, user_id, parent_comment_id, root_comment_id, content, created_at, modified_at, created_by, modified_by) values
+(69, 'joo', 1, 1, '퍼가요~', '2021-03-02 22:40:04', '2021-04-27 15:38:09', 'Joo', 'Joo'),
+(69, 'a', 1, 1, '퍼가요~', '2021-03-03 22:40:04', '2021-04-27 15:38:09', 'A', 'A'),
+(69, 'joo', 1, 1, '또 퍼가요~', '2021-03-04 22:40:04', '2021-04-27 15:38:09', 'Joo', 'Joo'),
+(69, 'joo', 1, 1, '또또 퍼가요~', '2021-03-05 22:40:04', '2021-04-27 15:38:09', 'Joo', 'Joo');
 
 --- 해시태그 20개
 insert into hashtag (hashtag_name, created_at, created_by, modified_at, modified_by) values
@@ -515,3 +515,6 @@ insert into article_hashtag (article_id, hashtag_id) values
 (96, 18),
 (40, 6),
 (82, 12);
+
+-- 게시글 댓글 수 (반정규화 컬럼) 초기화
+update article a set comment_count = (select count(*) from article_comment ac where ac.article_id = a.id);
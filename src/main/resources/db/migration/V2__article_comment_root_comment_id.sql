@@ -0,0 +1,32 @@
+-- 댓글 스레드 단위 조회용 최상위 댓글 ID (MariaDB 10.2+, cloudtype 프로필은 ddl-auto: none 이므로 직접 실행)
+-- 최상위 댓글은 NULL, 답글은 스레드의 최상위 댓글 ID
+
+ALTER TABLE article_comment ADD COLUMN IF NOT EXISTS root_comment_id BIGINT NULL;
+
+-- 기존 답글은 parent_comment_id 를 따라 올라가 최상위 댓글 ID 를 채움
+CREATE TEMPORARY TABLE comment_root (
+    id      BIGINT NOT NULL PRIMARY KEY,
+    root_id BIGINT NOT NULL
+);
+
+INSERT INTO comment_root (id, root_id)
+SELECT thread.id, thread.root_id
+FROM (
+    WITH RECURSIVE thread (id, root_id) AS (
+        SELECT id, id FROM article_comment WHERE parent_comment_id IS NULL
+        UNION ALL
+        SELECT c.id, t.root_id FROM article_comment c INNER JOIN thread t ON c.parent_comment_id = t.id
+    )
+    SELECT id, root_id FROM thread
+) thread
+WHERE thread.id <> thread.root_id;
+
+UPDATE article_comment c
+    INNER JOIN comment_root r ON c.id = r.id
+SET c.root_comment_id = r.root_id
+WHERE c.root_comment_id IS NULL;
+
+DROP TEMPORARY TABLE comment_root;
+
+CREATE INDEX IF NOT EXISTS idx_article_comment_root_comment_id_created_at
+    ON article_comment (root_comment_id, created_at);
@@ -0,0 +1,16 @@
+-- 게시글 댓글 수, 조회수 (반정규화 컬럼). 엔티티는 UPDATE ... SET n = n + ? 로만 변경함
+
+ALTER TABLE article
+    ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS view_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 게시글의 댓글 수 채우기 (조회수는 기록이 없으므로 0 부터 셈)
+UPDATE article a
+    INNER JOIN (
+        SELECT article_id, COUNT(*) AS comment_count
+        FROM article_comment
+        GROUP BY article_id
+    ) c ON a.id = c.article_id
+SET a.comment_count = c.comment_count;
+
+CREATE INDEX IF NOT EXISTS idx_article_view_count_id ON article (view_count, id);
@@ -0,0 +1,4 @@
+-- 조건부 GET 검증값의 게시글별 마지막 댓글 ID, 수정일시 조회용 인덱스
+
+CREATE INDEX IF NOT EXISTS idx_article_comment_article_id_modified_at
+    ON article_comment (article_id, modified_at);
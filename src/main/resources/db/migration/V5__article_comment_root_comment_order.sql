@@ -0,0 +1,4 @@
+-- 게시글별 최상위 댓글(parent_comment_id IS NULL)을 최신순 (created_at, id) 커서로 읽는 인덱스
+
+CREATE INDEX IF NOT EXISTS idx_article_comment_article_id_parent_created_at_id
+    ON article_comment (article_id, parent_comment_id, created_at, id);
@@ -11,7 +11,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
@@ -45,9 +44,7 @@ class ArticleCommentControllerTest {
     void saveNewComment() throws Exception {
         // Given
         long articleId = 1L;
-        int articleIndex = 0;
         long articleCommentId = 1L;
-        Pageable pageable = Pageable.ofSize(10);
         ArticleCommentRequest request = ArticleCommentRequest.of(articleId, "test comment");
         given(articleCommentService.saveComment(any(ArticleCommentDto.class))).willReturn(articleCommentId);
         // When & Then
@@ -55,13 +52,11 @@ class ArticleCommentControllerTest {
                         post("/comments/new")
                                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                                 .content(formDataEncoder.encode(request))
-                                .queryParam("articleIndex", String.valueOf(articleIndex))
-                                .queryParam("page", String.valueOf(pageable.getPageNumber()))
                                 .with(csrf())
                 )
                 .andExpect(status().is3xxRedirection())
-                .andExpect(view().name("redirect:/articles/detail?articleIndex=0&page=0#comment" + articleCommentId))
-                .andExpect(redirectedUrl("/articles/detail?articleIndex=0&page=0#comment" + articleCommentId));
+                .andExpect(view().name("redirect:/articles/" + articleId + "#comment" + articleCommentId))
+                .andExpect(redirectedUrl("/articles/" + articleId + "#comment" + articleCommentId));
         then(articleCommentService).should().saveComment(any(ArticleCommentDto.class));
     }
 
@@ -94,21 +89,44 @@ class ArticleCommentControllerTest {
         // Given
         long articleId = 1L;
         long parentCommentId = 1L;
-        long articleCommentId = 1L;
+        long articleCommentId = 2L;
         ArticleCommentRequest request = ArticleCommentRequest.of(articleId, parentCommentId, "test content");
         given(articleCommentService.saveComment(any(ArticleCommentDto.class))).willReturn(articleCommentId);
+        given(articleCommentService.getThreadId(articleCommentId)).willReturn(parentCommentId);
         // When & Then
         mvc.perform(
                 post("/comments/new")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                        .queryParam("articleIndex", String.valueOf(0))
-                        .queryParam("pageable", String.valueOf(Pageable.ofSize(10)))
                         .content(formDataEncoder.encode(request))
                         .with(csrf())
             )
                 .andExpect(status().is3xxRedirection())
-                .andExpect(view().name("redirect:/articles/detail?articleIndex=0&page=0#comment" + articleCommentId))
-                .andExpect(redirectedUrl("/articles/detail?articleIndex=0&page=0#comment" + articleCommentId));
+                .andExpect(view().name("redirect:/articles/" + articleId + "?thread=" + parentCommentId + "#comment" + articleCommentId))
+                .andExpect(redirectedUrl("/articles/" + articleId + "?thread=" + parentCommentId + "#comment" + articleCommentId));
         then(articleCommentService).should().saveComment(any(ArticleCommentDto.class));
     }
+
+    @WithUserDetails(value = "jooTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][POST] 답글에 답글 등록 - 최상위 댓글 스레드로 이동")
+    @Test
+    void addReplyToReply() throws Exception {
+        // Given
+        long articleId = 1L;
+        long rootCommentId = 1L;
+        long parentCommentId = 2L;
+        long articleCommentId = 3L;
+        ArticleCommentRequest request = ArticleCommentRequest.of(articleId, parentCommentId, "test content");
+        given(articleCommentService.saveComment(any(ArticleCommentDto.class))).willReturn(articleCommentId);
+        given(articleCommentService.getThreadId(articleCommentId)).willReturn(rootCommentId);
+        // When & Then
+        mvc.perform(
+                post("/comments/new")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .content(formDataEncoder.encode(request))
+                        .with(csrf())
+            )
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/articles/" + articleId + "?thread=" + rootCommentId + "#comment" + articleCommentId));
+        then(articleCommentService).should().getThreadId(articleCommentId);
+    }
 }
@@ -1,16 +1,21 @@
 package com.spring.projectboard.controller;
 
 import com.spring.projectboard.config.TestSecurityConfig;
-import com.spring.projectboard.domain.Article;
-import com.spring.projectboard.domain.UserAccount;
 import com.spring.projectboard.domain.constant.FormStatus;
+import com.spring.projectboard.domain.constant.HashtagMatchMode;
 import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleCursor;
 import com.spring.projectboard.dto.ArticleDto;
+import com.spring.projectboard.dto.ArticleSummaryDto;
+import com.spring.projectboard.dto.ArticleVersionDto;
 import com.spring.projectboard.dto.ArticleWithCommentsDto;
+import com.spring.projectboard.dto.HashtagCountDto;
 import com.spring.projectboard.dto.HashtagDto;
 import com.spring.projectboard.dto.UserAccountDto;
 import com.spring.projectboard.dto.response.ArticleResponse;
+import com.spring.projectboard.pageable.ArticlePageableGuard;
 import com.spring.projectboard.request.ArticleRequest;
+import com.spring.projectboard.service.ArticleCommentService;
 import com.spring.projectboard.service.ArticleService;
 import com.spring.projectboard.service.HashtagService;
 import com.spring.projectboard.service.PaginationService;
@@ -20,24 +25,28 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -53,6 +62,7 @@ class ArticleControllerTest {
 
     @MockBean private HashtagService hashtagService;
     @MockBean private ArticleService articleService;
+    @MockBean private ArticleCommentService articleCommentService;
     @MockBean private PaginationService paginationService;
 
     public ArticleControllerTest(@Autowired MockMvc mvc, @Autowired FormDataEncoder formDataEncoder) {
@@ -64,7 +74,7 @@ class ArticleControllerTest {
     @Test
     public void requestArticlesView() throws Exception {
         // Given
-        given(articleService.searchArticles(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticles(eq(null), eq(null), eq(HashtagMatchMode.ALL), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
         // When
         mvc.perform(get("/articles"))
@@ -75,17 +85,36 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attributeExists("searchTypes"));
         // Then
-        then(articleService).should().searchArticles(eq(null), eq(null), any(Pageable.class));
+        then(articleService).should().searchArticles(eq(null), eq(null), eq(HashtagMatchMode.ALL), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view] [GET] 게시글 리스트 (게시판) 페이지 - 인기순")
+    @Test
+    public void requestTrendingArticlesView() throws Exception {
+        // Given
+        given(articleService.getTrendingArticles(any(Pageable.class))).willReturn(Page.empty());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0));
+        // When
+        mvc.perform(get("/articles")
+                        .queryParam("sort", "trending")
+                        .queryParam("searchValue", "ignored")
+                )
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"));
+        // Then
+        then(articleService).should().getTrendingArticles(argThat(pageable -> pageable.getSort().getOrderFor("trending") != null));
+        then(articleService).should(never()).searchArticles(any(), any(), any(), any(Pageable.class));
+    }
+
     @DisplayName("[view] [GET] 게시글 리스트 (게시판) 페이지 - 검색")
     @Test
     public void saarchArticles() throws Exception {
         // Given
         SearchType searchType = SearchType.TITLE;
         String searchValue = "title";
-        given(articleService.searchArticles(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.searchArticles(eq(searchType), eq(searchValue), eq(HashtagMatchMode.ALL), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
         // When
         mvc.perform(get("/articles")
@@ -98,7 +127,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attributeExists("searchTypes"));
         // Then
-        then(articleService).should().searchArticles(eq(searchType), eq(searchValue), any(Pageable.class));
+        then(articleService).should().searchArticles(eq(searchType), eq(searchValue), eq(HashtagMatchMode.ALL), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -110,9 +139,9 @@ class ArticleControllerTest {
         String direction = "desc";
         int pageNumber = 0;
         int pageSize = 5;
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc(sortName)));
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc(sortName), Sort.Order.desc("id")));
         List<Integer> barNumbers = List.of(1, 2, 3, 4, 5);
-        given(articleService.searchArticles(null, null, pageable)).willReturn(Page.empty());
+        given(articleService.searchArticles(null, null, HashtagMatchMode.ALL, pageable)).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages())).willReturn(barNumbers);
         // When
 
@@ -128,44 +157,149 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/index"))
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attribute("paginationBarNumbers", barNumbers));
-        then(articleService).should().searchArticles(null, null, pageable);
+        then(articleService).should().searchArticles(null, null, HashtagMatchMode.ALL, pageable);
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view] [GET] 게시글 리스트 (게시판) 페이지 - 인덱스로 정렬할 수 없는 키는 무시하고 페이지 크기는 최대 크기로 줄임")
+    @Test
+    public void guardsSortAndPageSize() throws Exception {
+        // Given
+        Pageable pageable = PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        given(articleService.searchArticles(null, null, HashtagMatchMode.ALL, pageable)).willReturn(Page.empty());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0));
+        // When
+        mvc.perform(
+                get("/articles")
+                        .queryParam("size", "100000")
+                        .queryParam("sort", "content,desc")
+                )
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"));
+        // Then
+        then(articleService).should().searchArticles(null, null, HashtagMatchMode.ALL, pageable);
+    }
+
+    @DisplayName("[view] [GET] 게시글 리스트 (게시판) 페이지 - 커서 페이징")
+    @Test
+    public void requestArticlesViewByCursor() throws Exception {
+        // Given
+        String cursor = "";
+        int size = 1;
+        ArticleSummaryDto dto = ArticleSummaryDto.of(1L, "title", "content", Set.of("java"), LocalDateTime.now(), "joo", "joo@gmail.com", "joo");
+        given(articleService.searchArticlesByCursor(cursor, size)).willReturn(new SliceImpl<>(List.of(dto), Pageable.ofSize(size), true));
+        // When
+        mvc.perform(get("/articles")
+                        .queryParam("cursor", cursor)
+                        .queryParam("size", String.valueOf(size))
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorPaging", true))
+                .andExpect(model().attribute("nextCursor", ArticleCursor.of(dto.createdAt(), dto.id()).encode()));
+        // Then
+        then(articleService).should().searchArticlesByCursor(cursor, size);
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view] [GET] 게시글 리스트 (게시판) 페이지 - 커서 페이징, 0 이하의 페이지 크기는 1 로 조회")
+    @Test
+    public void givenNonPositiveSize_whenRequestingArticlesViewByCursor_thenUsesMinimumSize() throws Exception {
+        // Given
+        String cursor = "";
+        given(articleService.searchArticlesByCursor(cursor, 1)).willReturn(new SliceImpl<>(List.of(), Pageable.ofSize(1), false));
+        // When
+        mvc.perform(get("/articles")
+                        .queryParam("cursor", cursor)
+                        .queryParam("size", "0")
+                )
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"));
+        // Then
+        then(articleService).should().searchArticlesByCursor(cursor, 1);
+    }
+
     @WithMockUser
     @DisplayName("[view] [GET] 게시글 페이지 - 정상 호출, 인증된 사용자")
     @Test
     public void requestArticleView() throws Exception {
         // Given
-        int articleIndex = 0;
-        long totalCount = 1L;
-        int pageNumber = 0;
-        int pageSize = 10;
-        String sortName = "createdAt";
-        String direction = "desc";
-        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        given(articleService.getArticleWithCommentsDtoByPageIndex(articleIndex, pageable)).willReturn(createArticleWithCommentsDto());
-        given(paginationService.getPreviousUri(articleIndex, pageable)).willReturn(createPrevUri());
-        given(articleService.getArticleCount()).willReturn(totalCount);
-        given(paginationService.getNextUri(articleIndex, pageable, totalCount)).willReturn(createNextUri());
+        long articleId = 1L;
+        long nextArticleId = 2L;
+        given(articleService.getArticleVersion(articleId)).willReturn(createArticleVersionDto());
+        given(articleService.getArticleWithComments(articleId, null, 20)).willReturn(createArticleWithCommentsDto());
+        given(paginationService.getArticleUri(null)).willReturn("#");
+        given(paginationService.getArticleUri(nextArticleId)).willReturn("/articles/" + nextArticleId);
         // When
-        mvc.perform(
-                get("/articles/detail")
-                        .queryParam("articleIndex", String.valueOf(articleIndex))
-                        .queryParam("page", String.valueOf(pageNumber))
-                        .queryParam("size", String.valueOf(pageSize))
-                        .queryParam("sort", sortName + "," + direction)
-                )
+        mvc.perform(get("/articles/" + articleId))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("articleComments"))
-                .andExpect(model().attributeExists("prevUri"))
-                .andExpect(model().attributeExists("nextUri"));
+                .andExpect(model().attribute("nextCommentCursor", nullValue()))
+                .andExpect(model().attributeDoesNotExist("threadReplies"))
+                .andExpect(model().attribute("prevUri", "#"))
+                .andExpect(model().attribute("nextUri", "/articles/" + nextArticleId));
+        //Then
+        then(articleService).should().getArticleWithComments(articleId, null, 20);
+        then(articleService).should().increaseViewCount(articleId);
+        then(articleCommentService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser
+    @DisplayName("[view] [GET] 게시글 페이지 - 선택한 댓글의 답글을 커서 기반으로 펼침")
+    @Test
+    public void requestArticleViewWithReplies() throws Exception {
+        // Given
+        long articleId = 1L;
+        long rootCommentId = 10L;
+        String commentCursor = ArticleCursor.of(LocalDateTime.of(2023, 1, 1, 0, 0), 3L).encode();
+        String replyCursor = ArticleCursor.of(LocalDateTime.of(2023, 1, 2, 0, 0), 11L).encode();
+        given(articleService.getArticleVersion(articleId)).willReturn(createArticleVersionDto());
+        given(articleService.getArticleWithComments(articleId, commentCursor, 20)).willReturn(createArticleWithCommentsDto());
+        given(articleCommentService.getReplies(rootCommentId, replyCursor, 20))
+                .willReturn(new SliceImpl<>(List.of(), Pageable.ofSize(20), false));
+        given(paginationService.getArticleUri(any())).willReturn("#");
+        // When
+        mvc.perform(get("/articles/" + articleId)
+                        .queryParam("commentCursor", commentCursor)
+                        .queryParam("thread", String.valueOf(rootCommentId))
+                        .queryParam("replyCursor", replyCursor))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"))
+                .andExpect(model().attribute("commentCursor", commentCursor))
+                .andExpect(model().attribute("threadId", rootCommentId))
+                .andExpect(model().attribute("threadReplies", List.of()))
+                .andExpect(model().attribute("nextReplyCursor", nullValue()));
         //Then
-        then(articleService).should().getArticleWithCommentsDtoByPageIndex(articleIndex, pageable);
-        then(articleService).should().getArticleCount();
+        then(articleService).should().getArticleWithComments(articleId, commentCursor, 20);
+        then(articleCommentService).should().getReplies(rootCommentId, replyCursor, 20);
+    }
+
+    @WithMockUser
+    @DisplayName("[view] [GET] 게시글 페이지 - 변경이 없으면 게시글, 댓글을 조회하지 않고 304")
+    @Test
+    public void requestArticleViewNotModified() throws Exception {
+        // Given
+        long articleId = 1L;
+        MockHttpSession session = new MockHttpSession();
+        given(articleService.getArticleVersion(articleId)).willReturn(createArticleVersionDto());
+        given(articleService.getArticleWithComments(articleId, null, 20)).willReturn(createArticleWithCommentsDto());
+        given(paginationService.getArticleUri(any())).willReturn("#");
+        String etag = mvc.perform(get("/articles/" + articleId).session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // When
+        mvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        // Then
+        then(articleService).should(times(1)).getArticleWithComments(articleId, null, 20);
+        then(articleService).should(times(2)).increaseViewCount(articleId);
     }
 
     @DisplayName("[view] [GET] 게시글 페이지 - 인증되지않은 사용자일 경우 로그인 페이지로 이동")
@@ -199,10 +333,10 @@ class ArticleControllerTest {
     @Test
     public void requestArticleNoHashtagSearchView() throws Exception {
         // Given
-        List<String> hashtags = List.of("#java", "#spring", "#boot");
-        given(articleService.searchArticleDtosViaHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
+        List<HashtagCountDto> hashtags = List.of(HashtagCountDto.of("java", 3), HashtagCountDto.of("spring", 2));
+        given(articleService.searchArticlesViaHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
-        given(hashtagService.getHashtags()).willReturn(hashtags);
+        given(hashtagService.getPopularHashtags(anyInt())).willReturn(hashtags);
         // When
         mvc.perform(get("/articles/search-hashtag"))
                 .andExpect(status().isOk())
@@ -213,8 +347,8 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
         //Then
-        then(articleService).should().searchArticleDtosViaHashtag(eq(null), any(Pageable.class));
-        then(hashtagService).should().getHashtags();
+        then(articleService).should().searchArticlesViaHashtag(eq(null), any(Pageable.class));
+        then(hashtagService).should().getPopularHashtags(anyInt());
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -223,10 +357,10 @@ class ArticleControllerTest {
     public void requestArticleHashtagSearchView() throws Exception {
         // Given
         String hashtag = "#java";
-        List<String> hashtags = List.of("#java", "#spring", "#boot");
-        given(articleService.searchArticleDtosViaHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
+        List<HashtagCountDto> hashtags = List.of(HashtagCountDto.of("java", 3), HashtagCountDto.of("spring", 2));
+        given(articleService.searchArticlesViaHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
-        given(hashtagService.getHashtags()).willReturn(hashtags);
+        given(hashtagService.getPopularHashtags(anyInt())).willReturn(hashtags);
         // When
         mvc.perform(get("/articles/search-hashtag")
                         .queryParam("searchValue", hashtag))
@@ -237,8 +371,8 @@ class ArticleControllerTest {
                 .andExpect(model().attribute("hashtags", hashtags))
                 .andExpect(model().attributeExists("paginationBarNumbers"));
         //Then
-        then(articleService).should().searchArticleDtosViaHashtag(eq(hashtag), any(Pageable.class));
-        then(hashtagService).should().getHashtags();
+        then(articleService).should().searchArticlesViaHashtag(eq(hashtag), any(Pageable.class));
+        then(hashtagService).should().getPopularHashtags(anyInt());
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -280,13 +414,9 @@ class ArticleControllerTest {
     @Test
     void updateArticleNoAuth() throws Exception {
         // Given
-        int articleIndex = 0;
+        long articleId = 1L;
         // When & Then
-        mvc.perform(
-                    get("/articles/form")
-                            .queryParam("articleIndex", String.valueOf(articleIndex))
-                            .queryParam("pageable", String.valueOf(Pageable.ofSize(10)))
-                )
+        mvc.perform(get("/articles/" + articleId + "/form"))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrlPattern("**/login"));
 
@@ -298,22 +428,17 @@ class ArticleControllerTest {
     @Test
     void updateArticle() throws Exception {
         // Given
-        int articleIndex = 0;
-        Pageable pageable = Pageable.ofSize(10);
+        long articleId = 1L;
         ArticleDto dto = createArticleDto("title", "content", "java");
-        given(articleService.getArticleDtoByPageIndex(anyInt(), any(Pageable.class))).willReturn(dto);
+        given(articleService.getArticle(articleId)).willReturn(dto);
         // When & Then
-        mvc.perform(
-                    get("/articles/detail/form")
-                            .queryParam("articleIndex", String.valueOf(articleIndex))
-                            .queryParam("pageable", String.valueOf(pageable))
-        )
+        mvc.perform(get("/articles/" + articleId + "/form"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
                 .andExpect(view().name("articles/form"))
                 .andExpect(model().attribute("article", ArticleResponse.from(dto)))
                 .andExpect(model().attribute("formStatus", FormStatus.UPDATE));
-        then(articleService).should().getArticleDtoByPageIndex(anyInt(), any(Pageable.class));
+        then(articleService).should().getArticle(articleId);
     }
 
     @WithUserDetails(value = "jooTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
@@ -322,26 +447,19 @@ class ArticleControllerTest {
     void saveUpdateArticle() throws Exception {
         // Given
         long articleId = 1L;
-        int articleIndex = 0;
-        Pageable pageable = Pageable.ofSize(10);
-        ArticleDto dto = createArticleDto("title", "content", "java");
         ArticleRequest articleRequest = ArticleRequest.of("new title", "new content");
         willDoNothing().given(articleService).updateArticle(eq(articleId), any(ArticleDto.class));
-        given(articleService.getArticleByPageIndex(anyInt(), any(Pageable.class))).willReturn(createArticle(1L));
         // When & Then
         mvc.perform(
-                        post("/articles/detail/form")
+                        post("/articles/" + articleId + "/form")
                                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                                 .content(formDataEncoder.encode(articleRequest))
-                                .queryParam("articleIndex", String.valueOf(articleIndex))
-                                .queryParam("pageable", String.valueOf(pageable))
                                 .with(csrf())
                 )
                 .andExpect(status().is3xxRedirection())
-                .andExpect(view().name("redirect:/articles/detail?articleIndex=0&page=0"))
-                .andExpect(redirectedUrl("/articles/detail?articleIndex=0&page=0"));
+                .andExpect(view().name("redirect:/articles/" + articleId))
+                .andExpect(redirectedUrl("/articles/" + articleId));
         then(articleService).should().updateArticle(eq(articleId), any(ArticleDto.class));
-        then(articleService).should().getArticleByPageIndex(anyInt(), any(Pageable.class));
     }
 
     @WithUserDetails(value = "jooTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
@@ -393,6 +511,10 @@ class ArticleControllerTest {
         );
     }
 
+    private ArticleVersionDto createArticleVersionDto() {
+        return ArticleVersionDto.of(1L, LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 1, 1, 0, 0), 0L, 0L, null, null, null, 2L);
+    }
+
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "joo",
@@ -407,35 +529,11 @@ class ArticleControllerTest {
         );
     }
 
-    private String createNextUri() {
-        return UriComponentsBuilder.newInstance().path("/articles/detail")
-                .queryParam("articleIndex", 1)
-                .queryParam("page", 0)
-                .build()
-                .toUriString();
-    }
-
-    private String createPrevUri() {
-        return UriComponentsBuilder.newInstance().path("#").build().toUriString();
-    }
-
-    private Article createArticle(Long id) {
-        Article article = Article.of(
-                createUserAccount("joo"),
-                "title",
-                "content"
-        );
-        ReflectionTestUtils.setField(article, "id", id);
-        return article;
-    }
-
-    private UserAccount createUserAccount(String userId) {
-        return UserAccount.of(
-                userId,
-                "pw",
-                "joo@gmail.com",
-                "joo",
-                "memo"
-        );
+    @TestConfiguration
+    static class PageableGuardConfig {
+        @Bean
+        ArticlePageableGuard articlePageableGuard() {
+            return new ArticlePageableGuard(new ArticlePageableGuard.PageableGuardProperties(100));
+        }
     }
 }
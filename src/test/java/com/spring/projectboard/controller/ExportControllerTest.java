@@ -0,0 +1,102 @@
+package com.spring.projectboard.controller;
+
+import com.spring.projectboard.config.TestSecurityConfig;
+import com.spring.projectboard.domain.constant.ExportFormat;
+import com.spring.projectboard.service.ArticleExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 내보내기")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ExportController.class)
+class ExportControllerTest {
+    private final MockMvc mvc;
+
+    @MockBean private ArticleExportService articleExportService;
+
+    public ExportControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[GET] 게시글 내보내기 - 기본은 NDJSON")
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void exportArticles() throws Exception {
+        // Given
+        given(articleExportService.exportArticles(eq(ExportFormat.NDJSON), any(OutputStream.class))).willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        // When & Then
+        mvc.perform(get("/api/export/articles"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+        then(articleExportService).should().exportArticles(eq(ExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+    @DisplayName("[GET] 댓글 내보내기 - CSV, gzip 압축")
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    void exportArticleCommentsWithGzip() throws Exception {
+        // Given
+        given(articleExportService.exportArticleComments(eq(ExportFormat.CSV), any(OutputStream.class))).willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        // When
+        MvcResult result = mvc.perform(get("/api/export/article-comments").param("format", "CSV").param("gzip", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"article-comments.csv.gz\""))
+                .andReturn();
+        // Then
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("id\n1\n");
+        }
+    }
+
+    @DisplayName("[GET] 게시글 내보내기 - 인증 없이 요청하면 로그인 페이지로 이동")
+    @Test
+    void exportArticlesWithoutAuthentication() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/export/articles"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+        then(articleExportService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[GET] 게시글 내보내기 - 관리자가 아니면 403")
+    @WithMockUser
+    @Test
+    void exportArticlesWithoutAdminRole() throws Exception {
+        // Given
+
+        // When & Then
+        mvc.perform(get("/api/export/articles"))
+                .andExpect(status().isForbidden());
+        then(articleExportService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,120 @@
+package com.spring.projectboard.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽기/쓰기 DataSource 분기")
+class ReadWriteRoutingDataSourceTest {
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica1;
+    private EmbeddedDatabase replica2;
+    private ReadWriteRoutingDataSource sut;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate transaction;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica1 = createDatabase("replica-1");
+        replica2 = createDatabase("replica-2");
+        sut = new ReadWriteRoutingDataSource(
+                primary,
+                Map.of("replica-1", replica1, "replica-2", replica2),
+                Duration.ofSeconds(10),
+                "SELECT seconds FROM replication_lag"
+        );
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(sut);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica1.shutdown();
+        replica2.shutdown();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB 에 번갈아 보내고 그 외는 원본 DB 로 보냄")
+    @Test
+    void routesReadOnlyTransactionsToReplicas() {
+        // Given
+        sut.checkReplicas();
+        // When
+        List<String> reads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            reads.add(readOnlyTransaction.execute(status -> node()));
+        }
+        String write = transaction.execute(status -> node());
+        String withoutTransaction = node();
+        // Then
+        assertThat(sut.getHealthyReplicas()).containsExactly("replica-1", "replica-2");
+        assertThat(reads).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+        assertThat(write).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @DisplayName("상태를 확인하기 전에는 읽기 전용 트랜잭션도 원본 DB 를 사용")
+    @Test
+    void usesPrimaryBeforeHealthCheck() {
+        // Given
+
+        // When
+        String read = readOnlyTransaction.execute(status -> node());
+        // Then
+        assertThat(sut.getHealthyReplicas()).isEmpty();
+        assertThat(read).isEqualTo("primary");
+    }
+
+    @DisplayName("복제 지연이 허용 범위를 넘거나 연결할 수 없는 복제 DB 는 제외하고, 모두 제외되면 원본 DB 를 사용")
+    @Test
+    void excludesLaggingOrDownReplicas() {
+        // Given
+        new JdbcTemplate(replica1).update("UPDATE replication_lag SET seconds = 60");
+        replica2.shutdown();
+        // When
+        sut.checkReplicas();
+        String read = readOnlyTransaction.execute(status -> node());
+        // Then
+        assertThat(sut.getHealthyReplicas()).isEmpty();
+        assertThat(read).isEqualTo("primary");
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE replication_lag (seconds BIGINT)");
+        jdbcTemplate.update("INSERT INTO replication_lag VALUES (0)");
+        return database;
+    }
+}
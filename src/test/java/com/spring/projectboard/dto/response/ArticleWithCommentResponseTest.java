@@ -8,7 +8,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -16,20 +18,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("DTO - 댓글을 포함한 게시글 응답 테스트")
 class ArticleWithCommentResponseTest {
 
-    @DisplayName("자식 댓글이 없는 ArticleWithCommentsDto -> ArticleWithCommentResponse 으로 변환할 때 댓글을 시간 내림차순 + ID 오름차순으로 정렬")
+    @DisplayName("자식 댓글이 없는 ArticleWithCommentsDto -> ArticleWithCommentResponse 으로 변환할 때 조회된 댓글 순서(시간 내림차순 + ID 오름차순)를 유지")
     @Test
-    void withoutChildCommentsOrderByCreatedAtAndId() {
+    void withoutChildCommentsKeepsQueryOrder() {
         // Given
         LocalDateTime now = LocalDateTime.now();
-        Set<ArticleCommentDto> articleCommentDtos = Set.of(
-                createArticleCommentDto(1L, null, now),
-                createArticleCommentDto(2L, null, now.plusDays(1L)),
-                createArticleCommentDto(3L, null, now.plusDays(3L)),
-                createArticleCommentDto(4L, null, now),
+        Set<ArticleCommentDto> articleCommentDtos = orderedSet(
+                createArticleCommentDto(8L, null, now.plusDays(7L)),
                 createArticleCommentDto(5L, null, now.plusDays(5L)),
                 createArticleCommentDto(6L, null, now.plusDays(4L)),
+                createArticleCommentDto(3L, null, now.plusDays(3L)),
                 createArticleCommentDto(7L, null, now.plusDays(2L)),
-                createArticleCommentDto(8L, null, now.plusDays(7L))
+                createArticleCommentDto(2L, null, now.plusDays(1L)),
+                createArticleCommentDto(1L, null, now),
+                createArticleCommentDto(4L, null, now)
         );
         ArticleWithCommentsDto input = createArticleWithCommentDto(articleCommentDtos);
         // When
@@ -48,18 +50,18 @@ class ArticleWithCommentResponseTest {
                 );
     }
 
-    @DisplayName("ArticleWithCommentsDto -> ArticleWithCommentResponse 으로 변환할 때 댓글 부모 자식 관계를 규칙에 맞게 정렬")
+    @DisplayName("ArticleWithCommentsDto -> ArticleWithCommentResponse 으로 변환할 때 하위 댓글을 조회된 순서대로 부모 댓글에 연결")
     @Test
-    void OrderByParentAndChildComments() {
+    void organizesChildCommentsInQueryOrder() {
         // Given
         LocalDateTime now = LocalDateTime.now();
-        Set<ArticleCommentDto> articleCommentDtos = Set.of(
+        Set<ArticleCommentDto> articleCommentDtos = orderedSet(
+                createArticleCommentDto(5L, null, now.plusDays(5L)),
+                createArticleCommentDto(6L, null, now.plusDays(4L)),
                 createArticleCommentDto(1L, null, now),
+                createArticleCommentDto(4L, 1L, now),
                 createArticleCommentDto(2L, 1L, now.plusDays(1L)),
                 createArticleCommentDto(3L, 1L, now.plusDays(3L)),
-                createArticleCommentDto(4L, 1L, now),
-                createArticleCommentDto(5L, null, now.plusDays(5L)),
-                createArticleCommentDto(6L, null, now.plusDays(4L)),
                 createArticleCommentDto(7L, 6L, now.plusDays(2L)),
                 createArticleCommentDto(8L, 6L, now.plusDays(7L))
         );
@@ -68,11 +70,9 @@ class ArticleWithCommentResponseTest {
         ArticleWithCommentResponse actual = ArticleWithCommentResponse.from(input);
         // Then
         assertThat(actual.articleCommentResponses())
-                .containsExactly(
-                        createArticleCommentResponse(5L, null, now.plusDays(5L)),
-                        createArticleCommentResponse(6L, null, now.plusDays(4L)),
-                        createArticleCommentResponse(1L, null, now)
-                )
+                .extracting(ArticleCommentResponse::id)
+                .containsExactly(5L, 6L, 1L);
+        assertThat(actual.articleCommentResponses())
                 .flatExtracting(ArticleCommentResponse::childComments)
                 .containsExactly(
                         createArticleCommentResponse(7L, 6L, now.plusDays(2L)),
@@ -83,12 +83,29 @@ class ArticleWithCommentResponseTest {
                 );
     }
 
+    @DisplayName("부모 댓글이 없는 하위 댓글은 무시")
+    @Test
+    void ignoresChildCommentsWithoutParent() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Set<ArticleCommentDto> articleCommentDtos = orderedSet(
+                createArticleCommentDto(1L, null, now),
+                createArticleCommentDto(3L, 2L, now.plusDays(1L))
+        );
+        ArticleWithCommentsDto input = createArticleWithCommentDto(articleCommentDtos);
+        // When
+        ArticleWithCommentResponse actual = ArticleWithCommentResponse.from(input);
+        // Then
+        assertThat(actual.articleCommentResponses())
+                .containsExactly(createArticleCommentResponse(1L, null, now));
+    }
+
     @DisplayName("ArticleWithCommentsDto -> ArticleWithCommentResponse 으로 변환할 때 부모 자식 관계 깊이(depth)는 제한이 없다.")
     @Test
     void OrganizesParentAndChildCommentsWithoutDepthLimit() {
         // Given
         LocalDateTime now = LocalDateTime.now();
-        Set<ArticleCommentDto> articleCommentDtos = Set.of(
+        Set<ArticleCommentDto> articleCommentDtos = orderedSet(
                 createArticleCommentDto(1L, null, now),
                 createArticleCommentDto(2L, 1L, now.plusDays(1L)),
                 createArticleCommentDto(3L, 2L, now.plusDays(2L)),
@@ -118,6 +135,10 @@ class ArticleWithCommentResponseTest {
         }
     }
 
+    private Set<ArticleCommentDto> orderedSet(ArticleCommentDto... articleCommentDtos) {
+        return new LinkedHashSet<>(Arrays.asList(articleCommentDtos));
+    }
+
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "joo",
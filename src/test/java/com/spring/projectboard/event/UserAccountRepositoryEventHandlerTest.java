@@ -0,0 +1,45 @@
+package com.spring.projectboard.event;
+
+import com.spring.projectboard.domain.UserAccount;
+import com.spring.projectboard.service.UserAccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("REST API 회원 변경 이벤트")
+@ExtendWith(MockitoExtension.class)
+class UserAccountRepositoryEventHandlerTest {
+    @InjectMocks private UserAccountRepositoryEventHandler sut;
+    @Mock private UserAccountService userAccountService;
+
+    @DisplayName("회원 정보를 수정하면 회원 캐시에서 제거")
+    @Test
+    void evictsUserAfterSave() {
+        // Given
+        UserAccount userAccount = createUserAccount("joo");
+        // When
+        sut.afterSave(userAccount);
+        // Then
+        then(userAccountService).should().evictUser("joo");
+    }
+
+    @DisplayName("회원을 삭제하면 회원 캐시에서 제거")
+    @Test
+    void evictsUserAfterDelete() {
+        // Given
+        UserAccount userAccount = createUserAccount("joo");
+        // When
+        sut.afterDelete(userAccount);
+        // Then
+        then(userAccountService).should().evictUser("joo");
+    }
+
+    private UserAccount createUserAccount(String username) {
+        return UserAccount.of(username, "pw", "test@gmail.com", "nickname", "memo", username);
+    }
+}
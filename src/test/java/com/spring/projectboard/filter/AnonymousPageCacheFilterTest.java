@@ -0,0 +1,147 @@
+package com.spring.projectboard.filter;
+
+import com.spring.projectboard.event.ArticleEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비로그인 목록 화면 캐시 필터")
+class AnonymousPageCacheFilterTest {
+    private final AnonymousPageCacheFilter sut = new AnonymousPageCacheFilter(
+            Set.of("/articles"), Duration.ofMinutes(1), 100, Duration.ofSeconds(5));
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("같은 경로, 쿼리의 두 번째 요청은 렌더링하지 않고 캐시된 응답을 반환")
+    @Test
+    void cachesAnonymousPage() throws Exception {
+        // Given
+        MockHttpServletResponse first = perform("/articles", "page=1", page(HttpServletResponse.SC_OK));
+        // When
+        MockHttpServletResponse second = perform("/articles", "page=1", page(HttpServletResponse.SC_OK));
+        MockHttpServletResponse otherQuery = perform("/articles", "page=2", page(HttpServletResponse.SC_OK));
+        // Then
+        assertThat(renderCount).hasValue(2);
+        assertThat(first.getHeader(AnonymousPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(second.getHeader(AnonymousPageCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("page 1");
+        assertThat(second.getContentType()).isEqualTo("text/html;charset=UTF-8");
+        assertThat(otherQuery.getHeader(AnonymousPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+    }
+
+    @DisplayName("로그인한 사용자, 다른 경로, 200 이 아닌 응답은 캐싱하지 않음")
+    @Test
+    void skipsUncacheableRequests() throws Exception {
+        // Given
+        perform("/articles/form", null, page(HttpServletResponse.SC_OK));
+        perform("/articles", "page=9", page(HttpServletResponse.SC_NOT_FOUND));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "joo", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        perform("/articles", null, page(HttpServletResponse.SC_OK));
+        // When
+        MockHttpServletResponse authenticated = perform("/articles", null, page(HttpServletResponse.SC_OK));
+        SecurityContextHolder.clearContext();
+        perform("/articles/form", null, page(HttpServletResponse.SC_OK));
+        perform("/articles", "page=9", page(HttpServletResponse.SC_NOT_FOUND));
+        // Then
+        assertThat(renderCount).hasValue(6);
+        assertThat(authenticated.getHeader(AnonymousPageCacheFilter.CACHE_HEADER)).isNull();
+    }
+
+    @DisplayName("게시글 변경 이벤트를 받으면 캐시를 비움")
+    @Test
+    void invalidatesOnArticleEvent() throws Exception {
+        // Given
+        perform("/articles", null, page(HttpServletResponse.SC_OK));
+        // When
+        sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of()));
+        MockHttpServletResponse response = perform("/articles", null, page(HttpServletResponse.SC_OK));
+        // Then
+        assertThat(renderCount).hasValue(2);
+        assertThat(response.getHeader(AnonymousPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+    }
+
+    @DisplayName("렌더링 중인 페이지에 대한 동시 요청은 렌더링을 기다렸다가 같은 응답을 사용")
+    @Test
+    void coalescesConcurrentMisses() throws Exception {
+        // Given
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServlet slowPage = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                renderCount.incrementAndGet();
+                rendering.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                response.setContentType("text/html;charset=UTF-8");
+                response.getWriter().write("slow page");
+            }
+        };
+        CompletableFuture<MockHttpServletResponse> leader = CompletableFuture.supplyAsync(() -> performUnchecked(slowPage));
+        assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+        // When
+        CompletableFuture<MockHttpServletResponse> follower = CompletableFuture.supplyAsync(() -> performUnchecked(slowPage));
+        Thread.sleep(100);
+        release.countDown();
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("slow page");
+        assertThat(follower.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("slow page");
+        assertThat(follower.get().getHeader(AnonymousPageCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(renderCount).hasValue(1);
+    }
+
+    private MockHttpServletResponse performUnchecked(HttpServlet servlet) {
+        try {
+            return perform("/articles", null, servlet);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockHttpServletResponse perform(String path, String queryString, HttpServlet servlet) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setQueryString(queryString);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private HttpServlet page(int status) {
+        return new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                renderCount.incrementAndGet();
+                response.setStatus(status);
+                response.setContentType("text/html;charset=UTF-8");
+                response.getWriter().write("page " + request.getParameter("page"));
+            }
+        };
+    }
+}
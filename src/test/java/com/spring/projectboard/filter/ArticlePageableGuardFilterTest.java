@@ -0,0 +1,81 @@
+package com.spring.projectboard.filter;
+
+import com.spring.projectboard.pageable.ArticlePageableGuard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("REST 게시글 목록 정렬 제한 필터")
+class ArticlePageableGuardFilterTest {
+    private final ArticlePageableGuardFilter sut = new ArticlePageableGuardFilter(
+            new ArticlePageableGuard(new ArticlePageableGuard.PageableGuardProperties(100)));
+
+    @DisplayName("허용한 정렬 키에는 같은 방향의 id 를 덧붙여 (key, id) 로 정렬")
+    @Test
+    void givenSortableKey_whenRequesting_thenAppendsIdTiebreaker() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addParameter("sort", "createdAt,desc");
+        request.addParameter("size", "100000");
+        request.addParameter("page", "2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        // When
+        sut.doFilter(request, response, chain);
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest().getParameterValues("sort")).containsExactly("createdAt,desc", "id,desc");
+        assertThat(chain.getRequest().getParameter("page")).isEqualTo("2");
+    }
+
+    @DisplayName("id 만으로 정렬하면 그대로 처리")
+    @Test
+    void givenIdSort_whenRequesting_thenKeepsIdOnly() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addParameter("sort", "id,desc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        // When
+        sut.doFilter(request, response, chain);
+        // Then
+        assertThat(chain.getRequest().getParameterValues("sort")).containsExactly("id,desc");
+    }
+
+    @DisplayName("id 외에 두 개 이상의 키로 정렬하면 400 으로 거절")
+    @Test
+    void givenMultipleKeys_whenRequesting_thenBadRequest() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addParameter("sort", "createdAt,desc");
+        request.addParameter("sort", "createdBy");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        // When
+        sut.doFilter(request, response, chain);
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getErrorMessage()).contains("createdBy");
+    }
+
+    @DisplayName("본문처럼 인덱스로 정렬할 수 없는 키는 400 으로 거절")
+    @Test
+    void givenUnsortableKey_whenRequesting_thenBadRequest() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addParameter("sort", "title,content,asc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        // When
+        sut.doFilter(request, response, chain);
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getErrorMessage()).contains("content");
+    }
+}
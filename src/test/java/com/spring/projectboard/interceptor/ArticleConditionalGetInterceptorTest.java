@@ -0,0 +1,101 @@
+package com.spring.projectboard.interceptor;
+
+import com.spring.projectboard.dto.ArticleVersionDto;
+import com.spring.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("REST 게시글 조건부 GET")
+@ExtendWith(MockitoExtension.class)
+class ArticleConditionalGetInterceptorTest {
+    @InjectMocks private ArticleConditionalGetInterceptor sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 304 를 반환하고 요청을 처리하지 않음")
+    @Test
+    void givenMatchingEtag_whenRequesting_thenNotModified() {
+        // Given
+        ArticleVersionDto version = createArticleVersionDto();
+        given(articleRepository.findVersionById(1L)).willReturn(Optional.of(version));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, version.articleEtag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        // When
+        boolean proceed = sut.preHandle(request, response, new Object());
+        // Then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(version.articleEtag());
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(version.articleLastModifiedMillis());
+    }
+
+    @DisplayName("게시글이 변경되었으면 새 ETag 만 설정하고 요청을 처리")
+    @Test
+    void givenStaleEtag_whenRequesting_thenProceeds() {
+        // Given
+        ArticleVersionDto version = createArticleVersionDto();
+        given(articleRepository.findVersionById(1L)).willReturn(Optional.of(version));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        // When
+        boolean proceed = sut.preHandle(request, response, new Object());
+        // Then
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(version.articleEtag());
+        assertThat(response.containsHeader(HttpHeaders.LAST_MODIFIED)).isFalse();
+    }
+
+    @DisplayName("조회수가 바뀌면 이전 ETag 로 요청해도 304 를 반환하지 않음")
+    @Test
+    void givenEtagBeforeViewCountChange_whenRequesting_thenProceeds() {
+        // Given
+        ArticleVersionDto before = createArticleVersionDto();
+        ArticleVersionDto after = ArticleVersionDto.of(before.id(), before.createdAt(), before.modifiedAt(), before.commentCount(),
+                before.viewCount() + 1, before.lastCommentId(), before.lastCommentModifiedAt(), null, null);
+        given(articleRepository.findVersionById(1L)).willReturn(Optional.of(after));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, before.articleEtag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        // When
+        boolean proceed = sut.preHandle(request, response, new Object());
+        // Then
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(after.articleEtag()).isNotEqualTo(before.articleEtag());
+    }
+
+    @DisplayName("게시글 ID 가 아닌 경로, GET 이 아닌 요청은 검증하지 않음")
+    @Test
+    void givenNonItemRequest_whenRequesting_thenSkips() {
+        // Given
+        MockHttpServletRequest search = new MockHttpServletRequest("GET", "/api/articles/search");
+        MockHttpServletRequest patch = new MockHttpServletRequest("PATCH", "/api/articles/1");
+        // When
+        boolean searchProceed = sut.preHandle(search, new MockHttpServletResponse(), new Object());
+        boolean patchProceed = sut.preHandle(patch, new MockHttpServletResponse(), new Object());
+        // Then
+        assertThat(searchProceed).isTrue();
+        assertThat(patchProceed).isTrue();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    private ArticleVersionDto createArticleVersionDto() {
+        return ArticleVersionDto.of(1L, LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 1, 1, 0, 0), 3L, 5L,
+                10L, LocalDateTime.of(2023, 1, 2, 0, 0), null, null);
+    }
+}
@@ -0,0 +1,198 @@
+package com.spring.projectboard.loadtest;
+
+import com.spring.projectboard.dto.ArticleCursor;
+import com.spring.projectboard.dto.security.BoardPrincipal;
+import com.spring.projectboard.migration.SyntheticDataGenerator;
+import com.spring.projectboard.migration.SyntheticDataGenerator.DataGeneratorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 대량 데이터를 생성한 뒤 엔드포인트별로 같은 순서의 요청(seed 고정)을 보내 p50/p99 지연 시간과 요청당 SQL 수를 기록.
+ * 기본 test 작업에서는 제외되며 ./gradlew loadTest 로 실행. 결과는 build/reports/load-test/summary.csv
+ * 예) ./gradlew loadTest -DloadTest.articles=200000 -DloadTest.requests=1000 -Dspring.datasource.url=jdbc:postgresql://...
+ */
+@Slf4j
+@Tag("load-test")
+@DisplayName("부하 테스트 - 엔드포인트별 지연 시간, SQL 수")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.spring.projectboard=info",
+        "logging.level.org.springframework.web.servlet=info",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info"
+})
+class EndpointLoadTest {
+    private static final int USERS = Integer.getInteger("loadTest.users", 1_000);
+    private static final int ARTICLES = Integer.getInteger("loadTest.articles", 20_000);
+    private static final int HASHTAGS = Integer.getInteger("loadTest.hashtags", 500);
+    private static final int MAX_COMMENTS = Integer.getInteger("loadTest.maxComments", 300);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("loadTest.warmupRequests", 50);
+    private static final int REQUESTS = Integer.getInteger("loadTest.requests", 300);
+    private static final double[] CURSOR_DEPTHS = {0.01, 0.1, 0.5, 0.9};
+    private static final Path REPORT = Path.of("build", "reports", "load-test", "summary.csv");
+
+    @Autowired private MockMvc mvc;
+    @Autowired private SyntheticDataGenerator syntheticDataGenerator;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private final List<String> report = new ArrayList<>(List.of("endpoint,requests,p50_ms,p99_ms,max_ms,sql_per_request"));
+    private final Random random = new Random(42);
+    private Statistics statistics;
+    private long minArticleId;
+    private long maxArticleId;
+    private final List<String> cursors = new ArrayList<>();
+
+    @BeforeAll
+    void generateData() {
+        syntheticDataGenerator.generate(new DataGeneratorProperties(USERS, ARTICLES, HASHTAGS, MAX_COMMENTS, 42));
+        minArticleId = jdbcTemplate.queryForObject("SELECT min(id) FROM article", Long.class);
+        maxArticleId = jdbcTemplate.queryForObject("SELECT max(id) FROM article", Long.class);
+        seedCursors();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterAll
+    void writeReport() throws IOException {
+        Files.createDirectories(REPORT.getParent());
+        Files.write(REPORT, report);
+        log.info("부하 테스트 결과 ({})\n{}", REPORT.toAbsolutePath(), String.join("\n", report));
+    }
+
+    @DisplayName("[view][GET] 게시글 목록")
+    @Test
+    void articles() throws Exception {
+        measure("GET /articles", () -> get("/articles").param("page", String.valueOf(random.nextInt(100))));
+    }
+
+    @DisplayName("[view][GET] 게시글 목록 - 커서")
+    @Test
+    void articlesByCursor() throws Exception {
+        measure("GET /articles?cursor", () -> get("/articles").param("cursor", cursors.get(random.nextInt(cursors.size()))));
+    }
+
+    @DisplayName("[view][GET] 게시글 상세")
+    @Test
+    void articleDetail() throws Exception {
+        measure("GET /articles/{id}", () -> get("/articles/" + randomArticleId())
+                .with(user(BoardPrincipal.of(SyntheticDataGenerator.userId(0), "pw", null, null, null))));
+    }
+
+    @DisplayName("[view][GET] 해시태그 검색")
+    @Test
+    void searchHashtag() throws Exception {
+        measure("GET /articles/search-hashtag", () -> get("/articles/search-hashtag")
+                .param("searchValue", "tag" + random.nextInt(HASHTAGS))
+                .param("page", String.valueOf(random.nextInt(3))));
+    }
+
+    @DisplayName("[api][GET] 게시글 목록")
+    @Test
+    void apiArticles() throws Exception {
+        measure("GET /api/articles", () -> get("/api/articles").param("page", String.valueOf(random.nextInt(100))));
+    }
+
+    @DisplayName("[api][GET] 게시글 단건")
+    @Test
+    void apiArticle() throws Exception {
+        measure("GET /api/articles/{id}", () -> get("/api/articles/" + randomArticleId()));
+    }
+
+    @DisplayName("[api][GET] 댓글 목록")
+    @Test
+    void apiArticleComments() throws Exception {
+        measure("GET /api/articleComments", () -> get("/api/articleComments").param("page", String.valueOf(random.nextInt(100))));
+    }
+
+    @DisplayName("[api][GET] 해시태그 목록")
+    @Test
+    void apiHashtags() throws Exception {
+        measure("GET /api/hashtags", () -> get("/api/hashtags").param("page", String.valueOf(random.nextInt(10))));
+    }
+
+    /**
+     * 워밍업 요청은 기록하지 않음. SQL 수는 Hibernate 가 실행한 prepared statement 수 (JDBC 직접 실행 제외)
+     */
+    private void measure(String endpoint, Supplier<RequestBuilder> request) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            mvc.perform(request.get());
+        }
+
+        long[] latencies = new long[REQUESTS];
+        statistics.clear();
+        for (int i = 0; i < REQUESTS; i++) {
+            RequestBuilder requestBuilder = request.get();
+            long startedAt = System.nanoTime();
+            int status = mvc.perform(requestBuilder).andReturn().getResponse().getStatus();
+            latencies[i] = System.nanoTime() - startedAt;
+            assertThat(status).as(endpoint).isBetween(200, 299);
+        }
+        double sqlPerRequest = (double) statistics.getPrepareStatementCount() / REQUESTS;
+
+        Arrays.sort(latencies);
+        report.add(String.format("%s,%d,%.2f,%.2f,%.2f,%.1f", endpoint, REQUESTS,
+                millis(percentile(latencies, 50)), millis(percentile(latencies, 99)),
+                millis(latencies[latencies.length - 1]), sqlPerRequest));
+    }
+
+    /**
+     * 첫 페이지(빈 커서)만 요청하면 앞쪽 인덱스만 읽으므로, 최신순 목록의 여러 깊이에 있는 게시글을 커서로 준비
+     */
+    private void seedCursors() {
+        cursors.add("");
+        long articles = jdbcTemplate.queryForObject("SELECT count(*) FROM article", Long.class);
+        for (double depth : CURSOR_DEPTHS) {
+            cursors.add(jdbcTemplate.queryForObject(
+                    "SELECT created_at, id FROM article ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?",
+                    (rs, rowNum) -> ArticleCursor.of(rs.getTimestamp("created_at").toLocalDateTime(), rs.getLong("id")).encode(),
+                    (long) (articles * depth)
+            ));
+        }
+    }
+
+    private long randomArticleId() {
+        return minArticleId + (long) (random.nextDouble() * (maxArticleId - minArticleId + 1));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.spring.projectboard.migration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.projectboard.dto.ArticleIndexDto;
+import com.spring.projectboard.repository.HashtagRepository;
+import com.spring.projectboard.search.ArticleSearchEngine;
+import com.spring.projectboard.service.HashtagCloudCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("게시글 대량 등록")
+@DataJpaTest
+class ArticleBulkImporterTest {
+    private static final String LINES = """
+            {"userId":"joo","title":"이전 게시글 1","content":"본문 #legacy #java","createdAt":"2020-01-01T10:00:00","comments":[{"userId":"a","content":"댓글","replies":[{"userId":"joo","content":"답글","replies":[{"userId":"a","content":"답글의 답글"}]}]},{"userId":"nobody","content":"없는 사용자의 댓글"}]}
+            {"userId":"nobody","title":"없는 사용자","content":"본문"}
+            읽을 수 없는 줄
+
+            {"userId":"a","title":"이전 게시글 2","content":"#legacy"}
+            {"userId":"a","title":"이전 게시글 3","content":"본문"}
+            """;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private HashtagRepository hashtagRepository;
+    private final HashtagCloudCache hashtagCloudCache = mock(HashtagCloudCache.class);
+    private final ArticleSearchEngine articleSearchEngine = mock(ArticleSearchEngine.class);
+
+    private ArticleBulkImporter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleBulkImporter(
+                jdbcTemplate,
+                new NamedParameterJdbcTemplate(jdbcTemplate),
+                new TransactionTemplate(transactionManager),
+                hashtagRepository,
+                hashtagCloudCache,
+                articleSearchEngine,
+                new ObjectMapper().findAndRegisterModules(),
+                new ArticleBulkImporter.BulkImportProperties(null, 2)
+        );
+    }
+
+    @DisplayName("JSONL 의 게시글, 댓글, 해시태그를 배치로 저장하고 작성자가 없거나 읽을 수 없는 줄은 건너뜀")
+    @Test
+    void importsArticlesWithComments() throws IOException {
+        // Given
+        long articleCount = count("SELECT count(*) FROM article");
+
+        // When
+        BulkImportResult result = sut.importArticles(new StringReader(LINES));
+
+        // Then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("articles", 3L)
+                .hasFieldOrPropertyWithValue("comments", 3L)
+                .hasFieldOrPropertyWithValue("hashtagLinks", 3L)
+                .hasFieldOrPropertyWithValue("skipped", 2L);
+        assertThat(result.rows()).isEqualTo(9);
+        assertThat(count("SELECT count(*) FROM article")).isEqualTo(articleCount + 3);
+
+        Map<String, Object> article = jdbcTemplate.queryForMap(
+                "SELECT id, comment_count, created_at FROM article WHERE title = '이전 게시글 1'");
+        assertThat(article.get("comment_count")).isEqualTo(3L);
+        assertThat(article.get("created_at").toString()).startsWith("2020-01-01 10:00");
+
+        List<Map<String, Object>> comments = jdbcTemplate.queryForList(
+                "SELECT id, parent_comment_id, root_comment_id FROM article_comment WHERE article_id = ? ORDER BY id",
+                article.get("id"));
+        assertThat(comments).hasSize(3);
+        Object rootId = comments.get(0).get("id");
+        assertThat(comments.get(0).get("root_comment_id")).isNull();
+        assertThat(comments.get(1)).containsEntry("parent_comment_id", rootId).containsEntry("root_comment_id", rootId);
+        assertThat(comments.get(2))
+                .containsEntry("parent_comment_id", comments.get(1).get("id"))
+                .containsEntry("root_comment_id", rootId);
+
+        assertThat(count("SELECT count(*) FROM article_hashtag ah JOIN hashtag h ON h.id = ah.hashtag_id "
+                + "WHERE h.hashtag_name = 'legacy'")).isEqualTo(2);
+        then(hashtagCloudCache).should().invalidate();
+        then(articleSearchEngine).should().indexAll(argThat(articles -> articles.size() == 3
+                && articles.contains(ArticleIndexDto.of(((Number) article.get("id")).longValue(), "이전 게시글 1", "본문 #legacy #java"))));
+        then(articleSearchEngine).should(never()).index(anyLong(), anyString(), anyString());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,180 @@
+package com.spring.projectboard.migration;
+
+import com.spring.projectboard.migration.ArticleImportRecord.CommentImportRecord;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트용 대량 데이터 생성. 회원은 JDBC 배치로 저장하고 게시글, 댓글은 ArticleBulkImporter 로 저장.
+ * 실제 게시판처럼 소수의 회원, 해시태그, 게시글에 활동이 몰리도록 u^skew (u 는 0~1 균등분포) 로 치우친 값을 뽑음.
+ * 같은 seed 면 항상 같은 데이터를 생성. 알려진 비밀번호로 회원을 만들므로 운영 jar 에 포함되지 않도록 테스트 소스에만 둠
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SyntheticDataGenerator {
+    static final String USER_ID_PREFIX = "load";
+    static final String USER_PASSWORD = "{noop}load-test";
+    private static final String INSERT_USER = "INSERT INTO user_account "
+            + "(user_id, user_password, email, nickname, memo, created_at, created_by, modified_at, modified_by) "
+            + "VALUES (?, ?, ?, ?, NULL, ?, ?, ?, ?)";
+    private static final int USER_BATCH_SIZE = 1000;
+    private static final double USER_SKEW = 3;
+    private static final double HASHTAG_SKEW = 4;
+    private static final double COMMENT_SKEW = 10;
+    private static final double ROOT_COMMENT_RATIO = 0.6;
+    private static final int MAX_HASHTAGS_PER_ARTICLE = 5;
+    private static final int PERIOD_DAYS = 3 * 365;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleBulkImporter articleBulkImporter;
+
+    public BulkImportResult generate(DataGeneratorProperties properties) {
+        log.info("부하 테스트 데이터 생성 시작 - 회원: {}, 게시글: {}, 해시태그: {}, 게시글당 최대 댓글: {}",
+                properties.getUsers(), properties.getArticles(), properties.getHashtags(), properties.getMaxComments());
+        insertUsers(properties.getUsers());
+        return articleBulkImporter.importArticles(new ArticleIterator(properties, LocalDateTime.now()));
+    }
+
+    public static String userId(int index) {
+        return USER_ID_PREFIX + index;
+    }
+
+    private void insertUsers(int users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < users; from += USER_BATCH_SIZE) {
+            List<String> userIds = IntStream.range(from, Math.min(from + USER_BATCH_SIZE, users))
+                    .mapToObj(SyntheticDataGenerator::userId)
+                    .toList();
+            jdbcTemplate.batchUpdate(INSERT_USER, userIds, userIds.size(), (ps, userId) -> {
+                ps.setString(1, userId);
+                ps.setString(2, USER_PASSWORD);
+                ps.setString(3, userId + "@load.test");
+                ps.setString(4, userId);
+                ps.setTimestamp(5, now);
+                ps.setString(6, userId);
+                ps.setTimestamp(7, now);
+                ps.setString(8, userId);
+            });
+        }
+    }
+
+    /**
+     * 0 이상 bound 미만의 정수. skew 가 클수록 0 에 가까운 값이 많이 나옴
+     */
+    static int skewed(Random random, int bound, double skew) {
+        return Math.min((int) (bound * Math.pow(random.nextDouble(), skew)), bound - 1);
+    }
+
+    /**
+     * 게시글을 하나씩 만들어 메모리에는 현재 게시글만 유지
+     */
+    private static class ArticleIterator implements Iterator<ArticleImportRecord> {
+        private final DataGeneratorProperties properties;
+        private final LocalDateTime now;
+        private final Random random;
+        private int generated = 0;
+
+        ArticleIterator(DataGeneratorProperties properties, LocalDateTime now) {
+            this.properties = properties;
+            this.now = now;
+            this.random = new Random(properties.getSeed());
+        }
+
+        @Override
+        public boolean hasNext() {
+            return generated < properties.getArticles();
+        }
+
+        @Override
+        public ArticleImportRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            generated++;
+            LocalDateTime createdAt = now.minusMinutes(random.nextInt(PERIOD_DAYS * 24 * 60));
+
+            StringBuilder content = new StringBuilder("부하 테스트 게시글 ").append(generated).append(" 본문입니다.");
+            int hashtagCount = random.nextInt(MAX_HASHTAGS_PER_ARTICLE + 1);
+            for (int i = 0; i < hashtagCount; i++) {
+                content.append(" #tag").append(skewed(random, properties.getHashtags(), HASHTAG_SKEW));
+            }
+
+            return new ArticleImportRecord(
+                    randomUserId(),
+                    "부하 테스트 게시글 " + generated,
+                    content.toString(),
+                    createdAt,
+                    comments(createdAt)
+            );
+        }
+
+        /**
+         * 대부분의 게시글은 댓글이 거의 없고 일부 게시글에 댓글이 몰림.
+         * 답글은 앞서 작성된 댓글 중 하나에 달리므로 자연스럽게 여러 단계로 중첩됨
+         */
+        private List<CommentImportRecord> comments(LocalDateTime articleCreatedAt) {
+            int commentCount = skewed(random, properties.getMaxComments() + 1, COMMENT_SKEW);
+            List<String> userIds = new ArrayList<>(commentCount);
+            List<LocalDateTime> createdAts = new ArrayList<>(commentCount);
+            List<List<Integer>> children = new ArrayList<>(commentCount);
+            List<Integer> roots = new ArrayList<>();
+            for (int i = 0; i < commentCount; i++) {
+                userIds.add(randomUserId());
+                createdAts.add(articleCreatedAt.plusMinutes(i + 1L));
+                children.add(new ArrayList<>());
+                if (i == 0 || random.nextDouble() < ROOT_COMMENT_RATIO) {
+                    roots.add(i);
+                } else {
+                    children.get(random.nextInt(i)).add(i);
+                }
+            }
+            return roots.stream()
+                    .map(index -> comment(index, userIds, createdAts, children))
+                    .toList();
+        }
+
+        private CommentImportRecord comment(int index, List<String> userIds, List<LocalDateTime> createdAts, List<List<Integer>> children) {
+            return new CommentImportRecord(
+                    userIds.get(index),
+                    "댓글 " + (index + 1),
+                    createdAts.get(index),
+                    children.get(index).stream()
+                            .map(child -> comment(child, userIds, createdAts, children))
+                            .toList()
+            );
+        }
+
+        private String randomUserId() {
+            return userId(skewed(random, properties.getUsers(), USER_SKEW));
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class DataGeneratorProperties {
+        private final int users;
+        private final int articles;
+        /**
+         * 본문에 사용할 해시태그 종류 수
+         */
+        private final int hashtags;
+        /**
+         * 게시글 하나의 최대 댓글 수 (답글 포함)
+         */
+        private final int maxComments;
+        private final long seed;
+    }
+}
@@ -0,0 +1,88 @@
+package com.spring.projectboard.migration;
+
+import com.spring.projectboard.migration.ArticleImportRecord.CommentImportRecord;
+import com.spring.projectboard.migration.SyntheticDataGenerator.DataGeneratorProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("부하 테스트 데이터 생성")
+@ExtendWith(MockitoExtension.class)
+class SyntheticDataGeneratorTest {
+    private static final DataGeneratorProperties PROPERTIES = new DataGeneratorProperties(100, 500, 50, 100, 7);
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private ArticleBulkImporter articleBulkImporter;
+
+    @DisplayName("같은 seed 면 같은 게시글, 댓글을 생성하고 댓글 수는 최대값을 넘지 않음")
+    @Test
+    void generatesSameDataForSameSeed() {
+        // Given
+        List<ArticleImportRecord> first = generate();
+        // When
+        List<ArticleImportRecord> second = generate();
+        // Then
+        assertThat(first).hasSize(500);
+        assertThat(summarize(first)).isEqualTo(summarize(second));
+        assertThat(first).allSatisfy(article -> {
+            assertThat(article.userId()).startsWith(SyntheticDataGenerator.USER_ID_PREFIX);
+            assertThat(countComments(article.comments())).isLessThanOrEqualTo(100);
+        });
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), anyList(), eq(100), any());
+    }
+
+    @DisplayName("치우친 난수는 작은 값에 몰림")
+    @Test
+    void skewedTowardsZero() {
+        // Given
+        Random random = new Random(1);
+        // When
+        Map<Integer, Long> counts = IntStream.range(0, 10_000)
+                .mapToObj(i -> SyntheticDataGenerator.skewed(random, 10, 3))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        // Then
+        assertThat(counts.keySet()).allMatch(value -> value >= 0 && value < 10);
+        assertThat(counts.get(0)).isGreaterThan(counts.getOrDefault(9, 0L) * 5);
+    }
+
+    private List<ArticleImportRecord> generate() {
+        List<ArticleImportRecord> records = new ArrayList<>();
+        given(articleBulkImporter.importArticles(any(Iterator.class))).willAnswer(invocation -> {
+            Iterator<ArticleImportRecord> iterator = invocation.getArgument(0);
+            iterator.forEachRemaining(records::add);
+            return BulkImportResult.of(records.size(), 0, 0, 0, Duration.ZERO);
+        });
+        new SyntheticDataGenerator(jdbcTemplate, articleBulkImporter).generate(PROPERTIES);
+        return records;
+    }
+
+    /**
+     * 작성일시는 생성 시각 기준이므로 비교에서 제외
+     */
+    private List<String> summarize(List<ArticleImportRecord> records) {
+        return records.stream()
+                .map(record -> record.userId() + "|" + record.content() + "|" + countComments(record.comments()))
+                .toList();
+    }
+
+    private long countComments(List<CommentImportRecord> comments) {
+        return comments.size() + comments.stream().mapToLong(comment -> countComments(comment.replies())).sum();
+    }
+}
@@ -0,0 +1,116 @@
+package com.spring.projectboard.pageable;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("게시글 목록 정렬, 페이지 크기 제한")
+class ArticlePageableGuardTest {
+    private final ArticlePageableGuard sut = new ArticlePageableGuard(new ArticlePageableGuard.PageableGuardProperties(50));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @DisplayName("허용한 정렬 키에는 같은 방향의 id 를 덧붙여 인덱스 순서로 정렬")
+    @Test
+    void appendsIdToSortableKey() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 20, Sort.by(Sort.Order.asc("viewCount")));
+        // When
+        Pageable guarded = sut.guard(pageable);
+        // Then
+        assertThat(guarded).isEqualTo(PageRequest.of(2, 20, Sort.by(Sort.Order.asc("viewCount"), Sort.Order.asc("id"))));
+        assertThat(count("sort_rejected")).isZero();
+        assertThat(count("size_clamped")).isZero();
+    }
+
+    @DisplayName("허용하지 않는 정렬 키와 두 번째 정렬 키는 버리고, 남은 키가 없으면 최신순")
+    @Test
+    void rejectsUnsortableKeys() {
+        // Given
+        Pageable unsortable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("content"), Sort.Order.asc("hashtags")));
+        Pageable multiple = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("title"), Sort.Order.desc("createdAt")));
+        // When
+        Pageable guardedUnsortable = sut.guard(unsortable);
+        Pageable guardedMultiple = sut.guard(multiple);
+        // Then
+        assertThat(guardedUnsortable.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        assertThat(guardedMultiple.getSort()).isEqualTo(Sort.by(Sort.Order.asc("title"), Sort.Order.asc("id")));
+        assertThat(count("sort_rejected")).isEqualTo(3);
+    }
+
+    @DisplayName("인기순 정렬은 DB 에서 정렬하지 않으므로 그대로 둠")
+    @Test
+    void keepsTrendingSort() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(ArticlePageableGuard.TRENDING_SORT));
+        // When
+        Pageable guarded = sut.guard(pageable);
+        // Then
+        assertThat(guarded.getSort()).isEqualTo(Sort.by(ArticlePageableGuard.TRENDING_SORT));
+    }
+
+    @DisplayName("최대 크기를 넘는 페이지 크기는 최대 크기로 줄임")
+    @Test
+    void clampsPageSize() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 10_000, Sort.by(Sort.Order.desc("createdAt")));
+        // When
+        Pageable guarded = sut.guard(pageable);
+        int cursorSize = sut.clampSize(30);
+        // Then
+        assertThat(guarded.getPageSize()).isEqualTo(50);
+        assertThat(guarded.getPageNumber()).isEqualTo(1);
+        assertThat(cursorSize).isEqualTo(30);
+        assertThat(count("size_clamped")).isEqualTo(1);
+    }
+
+    @DisplayName("1 보다 작은 페이지 크기는 1 로 늘림")
+    @Test
+    void clampsNonPositiveSize() {
+        // Given
+
+        // When
+        int zero = sut.clampSize(0);
+        int negative = sut.clampSize(-5);
+        // Then
+        assertThat(zero).isEqualTo(1);
+        assertThat(negative).isEqualTo(1);
+        assertThat(count("size_clamped")).isEqualTo(2);
+    }
+
+    @DisplayName("작성자 정렬은 회원 조인 없이 createdBy 로만 허용")
+    @Test
+    void sortsWriterByCreatedBy() {
+        // Given
+        Pageable createdBy = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdBy")));
+        Pageable userId = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("userAccount.userId")));
+        // When
+        Pageable guardedCreatedBy = sut.guard(createdBy);
+        Pageable guardedUserId = sut.guard(userId);
+        // Then
+        assertThat(guardedCreatedBy.getSort()).isEqualTo(Sort.by(Sort.Order.desc("createdBy"), Sort.Order.desc("id")));
+        assertThat(guardedUserId.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        assertThat(count("sort_rejected")).isEqualTo(1);
+    }
+
+    private double count(String reason) {
+        return meterRegistry.counter(ArticlePageableGuard.METRIC_NAME, "reason", reason).count();
+    }
+}
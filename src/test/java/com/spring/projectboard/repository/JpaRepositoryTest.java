@@ -4,7 +4,20 @@ import com.spring.projectboard.domain.Article;
 import com.spring.projectboard.domain.ArticleComment;
 import com.spring.projectboard.domain.Hashtag;
 import com.spring.projectboard.domain.UserAccount;
+import com.spring.projectboard.domain.constant.HashtagMatchMode;
+import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleActivityDto;
+import com.spring.projectboard.dto.ArticleCommentDto;
+import com.spring.projectboard.dto.ArticleCommentExportDto;
+import com.spring.projectboard.dto.ArticleCursor;
+import com.spring.projectboard.dto.ArticleExportDto;
+import com.spring.projectboard.dto.ArticleSummaryDto;
+import com.spring.projectboard.dto.ArticleVersionDto;
+import com.spring.projectboard.dto.ArticleWithCommentsDto;
+import com.spring.projectboard.dto.HashtagCountDto;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,10 +28,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -30,16 +50,19 @@ class JpaRepositoryTest {
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final EntityManager entityManager;
 
     public JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
             @Autowired UserAccountRepository userAccountRepository,
-            @Autowired HashtagRepository hashtagRepository) {
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired EntityManager entityManager) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.entityManager = entityManager;
     }
 
     @Test
@@ -149,6 +172,34 @@ class JpaRepositoryTest {
         assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - 5);
     }
 
+    @DisplayName("[Querydsl] 댓글 자신과 모든 하위 댓글 수를 쿼리 한 번으로 셈")
+    @Test
+    void givenCommentTree_whenCountingSubtree_thenCountsAllDescendants() {
+        // Given
+        Article article = articleRepository.getReferenceById(1L);
+        UserAccount userAccount = userAccountRepository.getReferenceById("joo");
+        ArticleComment rootComment = articleCommentRepository.saveAndFlush(ArticleComment.of(userAccount, article, "root"));
+        ArticleComment reply = ArticleComment.of(userAccount, article, "reply");
+        rootComment.addChildComment(reply);
+        articleCommentRepository.saveAndFlush(reply);
+        ArticleComment nestedReply = ArticleComment.of(userAccount, article, "nested reply");
+        reply.addChildComment(nestedReply);
+        articleCommentRepository.saveAndFlush(nestedReply);
+        ArticleComment otherReply = ArticleComment.of(userAccount, article, "other reply");
+        rootComment.addChildComment(otherReply);
+        articleCommentRepository.saveAndFlush(otherReply);
+
+        // When
+        long rootSubtree = articleCommentRepository.countSubtree(rootComment.getId(), null);
+        long replySubtree = articleCommentRepository.countSubtree(reply.getId(), rootComment.getId());
+        long leafSubtree = articleCommentRepository.countSubtree(nestedReply.getId(), rootComment.getId());
+
+        // Then
+        assertThat(rootSubtree).isEqualTo(4);
+        assertThat(replySubtree).isEqualTo(2);
+        assertThat(leafSubtree).isEqualTo(1);
+    }
+
     @DisplayName("댓글과 대댓글 삭제 by 댓글 ID + 유저 ID")
     void deleteCommentWithChildCommentsByCommentIdAndUserID() {
         // Given
@@ -161,6 +212,76 @@ class JpaRepositoryTest {
         assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - 5);
     }
 
+    @DisplayName("댓글 수, 조회수는 UPDATE 문으로 증감하고 게시글 수정 시 덮어쓰지 않음")
+    @Test
+    void givenArticle_whenAddingCounters_thenUpdatesAtomicallyAndSurvivesEntityUpdate() {
+        // Given
+        Long articleId = 69L;
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        long previousCommentCount = article.getCommentCount();
+        // When
+        article.setTitle("new title");
+        articleRepository.flush();
+        articleRepository.addCommentCount(articleId, 2L);
+        articleRepository.addCommentCount(articleId, -1L);
+        articleRepository.addViewCounts(Map.of(articleId, 10L));
+        article.setTitle("newer title");
+        articleRepository.flush();
+        entityManager.clear();
+        // Then
+        assertThat(previousCommentCount).isEqualTo(6L);
+        assertThat(articleRepository.findById(articleId).orElseThrow())
+                .hasFieldOrPropertyWithValue("title", "newer title")
+                .hasFieldOrPropertyWithValue("commentCount", previousCommentCount + 1)
+                .hasFieldOrPropertyWithValue("viewCount", 10L);
+    }
+
+    @DisplayName("[Querydsl] 기간 내 게시글 활동량을 최신순으로 limit 만큼 조회")
+    @Test
+    void givenSince_whenQueryingActivities_thenReturnsNewestArticlesWithCounters() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+        // When
+        List<ArticleActivityDto> activities = articleRepository.findActivitiesCreatedAfter(since, 5);
+        List<ArticleActivityDto> allActivities = articleRepository.findActivitiesCreatedAfter(since, 1000);
+
+        // Then
+        assertThat(activities).hasSize(5)
+                .isSortedAccordingTo(Comparator.comparing(ArticleActivityDto::createdAt).reversed());
+        assertThat(allActivities).hasSize(123)
+                .filteredOn(activity -> activity.id().equals(69L))
+                .singleElement()
+                .hasFieldOrPropertyWithValue("commentCount", 6L);
+        assertThat(articleRepository.findActivitiesCreatedAfter(LocalDateTime.now(), 5)).isEmpty();
+    }
+
+    @DisplayName("내보내기 커서로 전체 게시글, 댓글을 ID 순으로 조회")
+    @Test
+    void givenTestData_whenStreamingForExport_thenReturnsAllRowsOrderedById() {
+        // Given
+
+        // When
+        List<ArticleExportDto> articles;
+        try (Stream<ArticleExportDto> stream = articleRepository.streamAllForExport()) {
+            articles = stream.toList();
+        }
+        List<ArticleCommentExportDto> comments;
+        try (Stream<ArticleCommentExportDto> stream = articleCommentRepository.streamAllForExport()) {
+            comments = stream.toList();
+        }
+
+        // Then
+        assertThat(articles).hasSize(123)
+                .isSortedAccordingTo(Comparator.comparing(ArticleExportDto::id))
+                .first()
+                .hasFieldOrPropertyWithValue("userId", "a");
+        assertThat(comments).hasSize((int) articleCommentRepository.count())
+                .isSortedAccordingTo(Comparator.comparing(ArticleCommentExportDto::id))
+                .filteredOn(comment -> comment.parentCommentId() != null)
+                .allMatch(comment -> comment.rootCommentId() != null);
+    }
+
     @DisplayName("[Querydsl] 전체 hashtag 리스트에서 이름만 조회")
     @Test
     void givenNothing_whenQueryingHashtags_thenReturnsHashtagNames() {
@@ -173,27 +294,324 @@ class JpaRepositoryTest {
         assertThat(hashtagNames).hasSize(20);
     }
 
-    @DisplayName("[Querydsl] hashtag로 페이징된 게시글 검색")
+    @DisplayName("[Querydsl] 해시태그별 게시글 수 조회")
     @Test
-    void givenHashtagNamesAndPageable_whenQueryingArticles_thenReturnsArticlePage() {
+    void givenNothing_whenQueryingHashtagCounts_thenReturnsArticleCountPerHashtag() {
         // Given
-        List<String> hashtagNames = List.of("blue", "crimson", "fuscia");
-        Pageable pageable = PageRequest.of(0, 5, Sort.by(
-                Sort.Order.desc("hashtags.hashtagName"),
-                Sort.Order.asc("title")
-        ));
+        long articleHashtagCount = ((Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM article_hashtag")
+                .getSingleResult()).longValue();
 
         // When
-        Page<Article> articlePage = articleRepository.findByHashtagNames(hashtagNames, pageable);
+        List<HashtagCountDto> hashtagCounts = hashtagRepository.findHashtagCounts();
 
         // Then
-        assertThat(articlePage.getContent()).hasSize(pageable.getPageSize());
-        assertThat(articlePage.getContent().get(0).getTitle()).isEqualTo("Duis bibendum.");
-        assertThat(articlePage.getContent().get(0).getHashtags())
-                .extracting("hashtagName", String.class)
-                .containsExactly("fuscia");
-        assertThat(articlePage.getTotalElements()).isEqualTo(5);
-        assertThat(articlePage.getTotalPages()).isEqualTo(1);
+        assertThat(hashtagCounts)
+                .isNotEmpty()
+                .allMatch(hashtagCount -> hashtagCount.articleCount() > 0);
+        assertThat(hashtagCounts.stream().mapToLong(HashtagCountDto::articleCount).sum())
+                .isEqualTo(articleHashtagCount);
+    }
+
+    @DisplayName("해시태그 upsert 는 없는 해시태그만 저장하고 반복해도 실패하지 않음")
+    @Test
+    void givenHashtagNames_whenUpserting_thenInsertsOnlyMissingHashtags() {
+        // Given
+        long previousCount = hashtagRepository.count();
+        Set<String> hashtagNames = Set.of("blue", "new-hashtag");
+
+        // When
+        hashtagRepository.upsertHashtagNames(hashtagNames, "joo");
+        hashtagRepository.upsertHashtagNames(hashtagNames, "joo");
+
+        // Then
+        assertThat(hashtagRepository.count()).isEqualTo(previousCount + 1);
+        assertThat(hashtagRepository.findByHashtagNameIn(hashtagNames))
+                .extracting(Hashtag::getHashtagName)
+                .containsExactlyInAnyOrderElementsOf(hashtagNames);
+    }
+
+    @DisplayName("게시글이 없는 해시태그만 한 번의 쿼리로 삭제")
+    @Test
+    void givenHashtagIds_whenDeletingOrphans_thenDeletesOnlyHashtagsWithoutArticles() {
+        // Given
+        hashtagRepository.upsertHashtagNames(Set.of("orphan"), "joo");
+        Long orphanId = hashtagRepository.findByHashtagNameIn(Set.of("orphan")).get(0).getId();
+        Long usedId = hashtagRepository.findByHashtagNameIn(Set.of("blue")).get(0).getId();
+
+        // When
+        int deletedCount = hashtagRepository.deleteOrphansByIdIn(Set.of(orphanId, usedId));
+        entityManager.clear();
+
+        // Then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(hashtagRepository.findById(orphanId)).isEmpty();
+        assertThat(hashtagRepository.findById(usedId)).isPresent();
+    }
+
+    @DisplayName("[Querydsl] 커서 기반으로 게시글 슬라이스 조회")
+    @Test
+    void givenCursor_whenQueryingArticles_thenReturnsArticlesAfterCursor() {
+        // Given
+        int size = 5;
+        Slice<ArticleSummaryDto> firstSlice = articleRepository.findSummariesByCursor(null, size);
+        ArticleSummaryDto last = firstSlice.getContent().get(size - 1);
+        ArticleCursor cursor = ArticleCursor.of(last.createdAt(), last.id());
+
+        // When
+        Slice<ArticleSummaryDto> nextSlice = articleRepository.findSummariesByCursor(cursor, size);
+
+        // Then
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(nextSlice.getContent())
+                .hasSize(size)
+                .doesNotContainAnyElementsOf(firstSlice.getContent())
+                .allSatisfy(article -> assertThat(article.createdAt()).isBeforeOrEqualTo(last.createdAt()));
+        assertThat(nextSlice.getContent())
+                .extracting(ArticleSummaryDto::createdAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("커서 기준 이전, 다음 게시글 ID 조회 테스트")
+    void givenCursor_whenQueryingNeighbours_thenReturnsAdjacentArticleIds() {
+        // Given
+        List<ArticleSummaryDto> articles = articleRepository.findSummariesByCursor(null, 3).getContent();
+        ArticleSummaryDto middle = articles.get(1);
+        ArticleCursor cursor = ArticleCursor.of(middle.createdAt(), middle.id());
+
+        // When
+        Optional<Long> previousId = articleRepository.findPreviousId(cursor);
+        Optional<Long> nextId = articleRepository.findNextId(cursor);
+        Optional<Long> newestPreviousId = articleRepository.findPreviousId(
+                ArticleCursor.of(articles.get(0).createdAt(), articles.get(0).id())
+        );
+
+        // Then
+        assertThat(previousId).contains(articles.get(0).id());
+        assertThat(nextId).contains(articles.get(2).id());
+        assertThat(newestPreviousId).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건부 GET 검증값 조회 테스트")
+    void givenArticleId_whenQueryingVersion_thenReturnsValidatorFields() {
+        // Given
+        Long articleId = 69L;
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        Long lastCommentId = entityManager
+                .createQuery("select max(c.id) from ArticleComment c where c.article.id = :articleId", Long.class)
+                .setParameter("articleId", articleId)
+                .getSingleResult();
+
+        // When
+        Optional<ArticleVersionDto> version = articleRepository.findVersionById(articleId);
+        Optional<ArticleVersionDto> missing = articleRepository.findVersionById(0L);
+
+        // Then
+        assertThat(version).get()
+                .hasFieldOrPropertyWithValue("id", articleId)
+                .hasFieldOrPropertyWithValue("modifiedAt", article.getModifiedAt())
+                .hasFieldOrPropertyWithValue("commentCount", article.getCommentCount())
+                .hasFieldOrPropertyWithValue("viewCount", article.getViewCount())
+                .hasFieldOrPropertyWithValue("lastCommentId", lastCommentId)
+                .hasFieldOrPropertyWithValue("createdAt", article.getCreatedAt())
+                .hasFieldOrPropertyWithValue("previousArticleId", null)
+                .hasFieldOrPropertyWithValue("nextArticleId", null);
+        assertThat(version.get().lastCommentModifiedAt()).isNotNull();
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("댓글 달린 게시글 조회 시 실행되는 쿼리 수 테스트")
+    void givenArticleId_whenLoadingArticleWithComments_thenExecutesBoundedStatements() {
+        // Given
+        Long articleId = 69L;
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        Article article = articleRepository.findDetailById(articleId).orElseThrow();
+        Slice<ArticleComment> rootComments = articleCommentRepository.findRootComments(articleId, null, 20);
+        Map<Long, Long> replyCounts = articleCommentRepository.countRepliesByRootCommentIds(
+                rootComments.map(ArticleComment::getId).getContent());
+        ArticleWithCommentsDto dto = ArticleWithCommentsDto.from(
+                article,
+                rootComments.map(comment -> ArticleCommentDto.from(comment, replyCounts.getOrDefault(comment.getId(), 0L))).getContent(),
+                rootComments.hasNext()
+        );
+
+        // Then
+        assertThat(dto.articleCommentDtos()).hasSize(2)
+                .allSatisfy(comment -> assertThat(comment.userAccountDto()).isNotNull());
+        assertThat(dto.articleCommentDtos()).extracting(ArticleCommentDto::replyCount).contains(4L);
+        assertThat(dto.hasMoreComments()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[Querydsl] 최상위 댓글과 답글을 커서 기반으로 조회")
+    void givenCursor_whenQueryingRootCommentsAndReplies_thenReturnsNextSlices() {
+        // Given
+        Long articleId = 69L;
+        Long rootCommentId = 1L;
+
+        // When
+        Slice<ArticleComment> firstPage = articleCommentRepository.findRootComments(articleId, null, 1);
+        ArticleComment lastRootComment = firstPage.getContent().get(0);
+        Slice<ArticleComment> secondPage = articleCommentRepository.findRootComments(
+                articleId, ArticleCursor.of(lastRootComment.getCreatedAt(), lastRootComment.getId()), 1);
+        Slice<ArticleComment> firstReplies = articleCommentRepository.findReplies(rootCommentId, null, 3);
+        ArticleComment lastReply = firstReplies.getContent().get(2);
+        Slice<ArticleComment> secondReplies = articleCommentRepository.findReplies(
+                rootCommentId, ArticleCursor.of(lastReply.getCreatedAt(), lastReply.getId()), 3);
+
+        // Then
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.getContent()).hasSize(1)
+                .allSatisfy(comment -> assertThat(comment.getParentCommentId()).isNull())
+                .doesNotContain(lastRootComment);
+        assertThat(lastRootComment.getCreatedAt()).isAfterOrEqualTo(secondPage.getContent().get(0).getCreatedAt());
+        assertThat(firstReplies.hasNext()).isTrue();
+        assertThat(secondReplies.hasNext()).isFalse();
+        assertThat(firstReplies.getContent()).hasSize(3)
+                .allSatisfy(comment -> assertThat(comment.getRootCommentId()).isEqualTo(rootCommentId))
+                .isSortedAccordingTo(Comparator.comparing(ArticleComment::getCreatedAt));
+        assertThat(secondReplies.getContent()).hasSize(1);
+        assertThat(articleCommentRepository.countRepliesByRootCommentIds(List.of(rootCommentId, 2L)))
+                .containsExactly(Map.entry(rootCommentId, 4L));
+    }
+
+    @Test
+    @DisplayName("[Querydsl] 게시글 목록 DTO 조회 시 COUNT 없이 해시태그는 한 번의 쿼리로 조회")
+    void givenPageable_whenQueryingSummarySlice_thenReturnsDtosWithoutCount() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        Slice<ArticleSummaryDto> summaries = articleRepository.findSummarySlice(null, null, pageable);
+
+        // Then
+        assertThat(summaries.hasNext()).isTrue();
+        assertThat(summaries.getContent())
+                .hasSize(10)
+                .extracting(ArticleSummaryDto::createdAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(articleRepository.countSummaries(null, null)).isEqualTo(123);
+    }
+
+    @Test
+    @DisplayName("[Querydsl] 게시글 목록 DTO 를 해시태그로 정렬하면 게시글마다 한 번씩, 가장 앞선 해시태그 순으로 조회")
+    void givenHashtagSort_whenQueryingSummarySlice_thenReturnsDistinctSortedDtos() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("hashtags"), Sort.Order.desc("id")));
+
+        // When
+        Slice<ArticleSummaryDto> summaries = articleRepository.findSummarySlice(null, null, pageable);
+
+        // Then
+        assertThat(summaries.hasNext()).isTrue();
+        assertThat(summaries.getContent())
+                .hasSize(10)
+                .extracting(ArticleSummaryDto::id)
+                .doesNotHaveDuplicates();
+        assertThat(summaries.getContent())
+                .filteredOn(summary -> !summary.hashtagNames().isEmpty())
+                .extracting(summary -> summary.hashtagNames().iterator().next())
+                .isSorted();
+    }
+
+    @Test
+    @DisplayName("[Querydsl] 게시글 목록 DTO 를 해시태그로 검색")
+    void givenHashtag_whenSearchingSummaries_thenReturnsDtosHavingHashtag() {
+        // Given
+        String hashtagName = "blue";
+
+        // When
+        Slice<ArticleSummaryDto> summaries = articleRepository.findSummarySlice(SearchType.HASHTAG, hashtagName, Pageable.ofSize(20));
+
+        // Then
+        assertThat(summaries.getContent())
+                .isNotEmpty()
+                .allSatisfy(summary -> assertThat(summary.hashtagNames()).contains(hashtagName));
+    }
+
+    @DisplayName("[Querydsl] 여러 해시태그로 검색하면 게시글은 한 번만 조회되고 ALL 은 교집합, ANY 는 합집합")
+    @Test
+    void givenHashtagNames_whenSearchingByMatchMode_thenReturnsDistinctArticles() {
+        // Given
+        Set<String> hashtagNames = Set.of("blue", "crimson");
+        Article article = Article.of(userAccountRepository.getReferenceById("joo"), "title", "content");
+        article.addHashtags(Set.copyOf(hashtagRepository.findByHashtagNameIn(hashtagNames)));
+        Long articleId = articleRepository.saveAndFlush(article).getId();
+
+        // When
+        Slice<ArticleSummaryDto> all = articleRepository.findSummariesByHashtagNames(hashtagNames, HashtagMatchMode.ALL, Pageable.unpaged());
+        Slice<ArticleSummaryDto> any = articleRepository.findSummariesByHashtagNames(hashtagNames, HashtagMatchMode.ANY, Pageable.unpaged());
+
+        // Then
+        assertThat(all.getContent())
+                .extracting(ArticleSummaryDto::id)
+                .contains(articleId)
+                .doesNotHaveDuplicates();
+        assertThat(all.getContent())
+                .allSatisfy(summary -> assertThat(summary.hashtagNames()).containsAll(hashtagNames));
+        assertThat(any.getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsAll(all.getContent().stream().map(ArticleSummaryDto::id).toList())
+                .doesNotHaveDuplicates();
+        assertThat(articleRepository.countByHashtagNames(hashtagNames, HashtagMatchMode.ALL)).isEqualTo(all.getNumberOfElements());
+        assertThat(articleRepository.countByHashtagNames(hashtagNames, HashtagMatchMode.ANY)).isEqualTo(any.getNumberOfElements());
+    }
+
+    @DisplayName("[Querydsl] 없는 해시태그가 포함된 ALL 검색은 게시글을 조회하지 않음")
+    @Test
+    void givenUnknownHashtag_whenSearchingAll_thenReturnsEmpty() {
+        // Given
+        Set<String> hashtagNames = Set.of("blue", "unknown-hashtag");
+
+        // When
+        Slice<ArticleSummaryDto> summaries = articleRepository.findSummariesByHashtagNames(hashtagNames, HashtagMatchMode.ALL, Pageable.ofSize(10));
+
+        // Then
+        assertThat(summaries).isEmpty();
+        assertThat(summaries.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("회원과 해시태그는 이전 트랜잭션에서 조회했다면 2차 캐시에서 조회")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenLoadedEntities_whenLoadingInNextTransaction_thenHitsSecondLevelCache() {
+        // Given
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        userAccountRepository.findById("joo").orElseThrow();
+        hashtagRepository.findById(1L).orElseThrow();
+        statistics.clear();
+
+        // When
+        userAccountRepository.findById("joo").orElseThrow();
+        hashtagRepository.findById(1L).orElseThrow();
+
+        // Then
+        assertThat(statistics.getDomainDataRegionStatistics("userAccount").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("hashtag").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
     }
 
     @EnableJpaAuditing
@@ -0,0 +1,200 @@
+package com.spring.projectboard.search;
+
+import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleIndexDto;
+import com.spring.projectboard.dto.ArticleSummaryDto;
+import com.spring.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("검색 엔진 - Lucene")
+class LuceneArticleSearchEngineTest {
+    @TempDir Path indexPath;
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private LuceneArticleSearchEngine sut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sut = new LuceneArticleSearchEngine(indexPath, articleRepository);
+        given(articleRepository.findSummariesByIds(anyList())).willAnswer(invocation -> {
+            List<Long> articleIds = invocation.getArgument(0);
+            return articleIds.stream().map(this::createArticleSummaryDto).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        sut.destroy();
+    }
+
+    @DisplayName("한글 키워드로 본문 검색 시 관련도 순으로 게시글 반환")
+    @Test
+    void searchKoreanContent() {
+        // Given
+        sut.index(1L, "공지", "스프링 부트 게시판입니다");
+        sut.index(2L, "질문", "스프링 부트 게시판 스프링 부트 검색 질문");
+        sut.index(3L, "잡담", "오늘 날씨가 좋네요");
+        // When
+        Page<ArticleSummaryDto> articles = sut.search(SearchType.CONTENT, "스프링 부트", Pageable.ofSize(10));
+        // Then
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        assertThat(articles.getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactly(2L, 1L);
+    }
+
+    @DisplayName("단어 일부(2글자 이상)로 제목 검색")
+    @Test
+    void searchPartialTitle() {
+        // Given
+        sut.index(1L, "게시판 사용법", "content");
+        sut.index(2L, "Spring Boot", "content");
+        // When
+        Page<ArticleSummaryDto> articles = sut.search(SearchType.TITLE, "게시", Pageable.ofSize(10));
+        // Then
+        assertThat(articles.getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactly(1L);
+    }
+
+    @DisplayName("여러 게시글을 한 번에 색인")
+    @Test
+    void indexAll() {
+        // Given
+        List<ArticleIndexDto> articles = List.of(
+                ArticleIndexDto.of(1L, "title", "content"),
+                ArticleIndexDto.of(2L, "title", "content")
+        );
+        // When
+        sut.indexAll(articles);
+        // Then
+        assertThat(sut.search(SearchType.TITLE, "title", Pageable.ofSize(10)).getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @DisplayName("수정, 삭제한 게시글은 색인에 반영")
+    @Test
+    void updateAndDelete() {
+        // Given
+        sut.index(1L, "old title", "content");
+        sut.index(2L, "title", "content");
+        // When
+        sut.index(1L, "new title", "content");
+        sut.delete(2L);
+        // Then
+        assertThat(sut.search(SearchType.TITLE, "old", Pageable.ofSize(10))).isEmpty();
+        assertThat(sut.search(SearchType.TITLE, "title", Pageable.ofSize(10)).getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactly(1L);
+    }
+
+    @DisplayName("색인 변경은 커밋 전에도 검색되고, 커밋하면 다시 열어도 유지")
+    @Test
+    void searchBeforeCommitAndReopenAfterCommit() throws IOException {
+        // Given
+        sut.index(1L, "title", "content");
+        assertThat(sut.search(SearchType.TITLE, "title", Pageable.ofSize(10))).hasSize(1);
+        // When
+        sut.commit();
+        sut.destroy();
+        sut = new LuceneArticleSearchEngine(indexPath, articleRepository);
+        // Then
+        assertThat(sut.search(SearchType.TITLE, "title", Pageable.ofSize(10)).getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactly(1L);
+    }
+
+    @DisplayName("재기동 시 마지막 커밋 이후 수정된 게시글을 다시 색인")
+    @Test
+    void reconcileReindexesArticlesModifiedAfterLastCommit() throws IOException {
+        // Given
+        sut.index(1L, "old title", "content");
+        sut.commit();
+        sut.destroy();
+        sut = new LuceneArticleSearchEngine(indexPath, articleRepository);
+        given(articleRepository.findSummariesModifiedSince(any(LocalDateTime.class), isNull(), anyInt()))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto(1L, "new title"))));
+        // When
+        sut.reconcile();
+        // Then
+        assertThat(sut.search(SearchType.TITLE, "old", Pageable.ofSize(10))).isEmpty();
+        assertThat(sut.search(SearchType.TITLE, "new", Pageable.ofSize(10)).getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactly(1L);
+        then(articleRepository).should(never()).findSummariesByCursor(any(), anyInt());
+    }
+
+    @DisplayName("색인이 비어있으면 기동 시 전체 게시글로 색인 생성")
+    @Test
+    void reconcileRebuildsEmptyIndex() throws IOException {
+        // Given
+        given(articleRepository.findSummariesByCursor(isNull(), anyInt()))
+                .willReturn(new SliceImpl<>(List.of(createArticleSummaryDto(1L, "title"))));
+        // When
+        sut.reconcile();
+        // Then
+        assertThat(sut.search(SearchType.TITLE, "title", Pageable.ofSize(10)).getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactly(1L);
+        then(articleRepository).should(never()).findSummariesModifiedSince(any(), any(), anyInt());
+    }
+
+    @DisplayName("DB 에서 삭제된 게시글은 검색 결과에서 빠지고 색인에서도 지워짐")
+    @Test
+    void searchDeletesMissingArticlesFromIndex() {
+        // Given
+        sut.index(1L, "title", "content");
+        sut.index(2L, "title", "content");
+        given(articleRepository.findSummariesByIds(anyList())).willAnswer(invocation -> {
+            List<Long> articleIds = invocation.getArgument(0);
+            return articleIds.stream().filter(id -> id != 2L).map(this::createArticleSummaryDto).toList();
+        });
+        // When
+        Page<ArticleSummaryDto> first = sut.search(SearchType.TITLE, "title", Pageable.ofSize(10));
+        Page<ArticleSummaryDto> second = sut.search(SearchType.TITLE, "title", Pageable.ofSize(10));
+        // Then
+        assertThat(first.getContent()).extracting(ArticleSummaryDto::id).containsExactly(1L);
+        assertThat(second.getTotalElements()).isEqualTo(1);
+    }
+
+    @DisplayName("색인 문서 수를 넘는 페이지는 빈 페이지 반환")
+    @Test
+    void searchBeyondIndexReturnsEmptyPage() {
+        // Given
+        sut.index(1L, "title", "content");
+        // When
+        Page<ArticleSummaryDto> articles = sut.search(SearchType.TITLE, "title", PageRequest.of(Integer.MAX_VALUE / 10, 10));
+        // Then
+        assertThat(articles.getContent()).isEmpty();
+        assertThat(articles.getTotalElements()).isEqualTo(1);
+    }
+
+    private ArticleSummaryDto createArticleSummaryDto(Long id, String title) {
+        return ArticleSummaryDto.of(id, title, "content", Set.of(), LocalDateTime.now(), "joo", "joo@gmail.com", "joo");
+    }
+
+    private ArticleSummaryDto createArticleSummaryDto(Long id) {
+        return ArticleSummaryDto.of(id, "title", "content", Set.of(), LocalDateTime.now(), "joo", "joo@gmail.com", "joo");
+    }
+}
@@ -4,7 +4,9 @@ import com.spring.projectboard.domain.Article;
 import com.spring.projectboard.domain.ArticleComment;
 import com.spring.projectboard.domain.UserAccount;
 import com.spring.projectboard.dto.ArticleCommentDto;
+import com.spring.projectboard.dto.ArticleCursor;
 import com.spring.projectboard.dto.UserAccountDto;
+import com.spring.projectboard.event.ArticleCommentEvent;
 import com.spring.projectboard.repository.ArticleCommentRepository;
 import com.spring.projectboard.repository.ArticleRepository;
 import com.spring.projectboard.repository.UserAccountRepository;
@@ -14,12 +16,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.*;
 
 @DisplayName("비지니스 로직 - 댓글")
@@ -29,22 +39,61 @@ class ArticleCommentServiceTest {
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
-    @DisplayName("게시글 ID로 댓글 조회")
+    @DisplayName("게시글 ID로 최상위 댓글을 답글 수와 함께 커서 기반 조회")
     @Test
     void getCommentsWithArticleId() {
         // Given
         Long article_id = 1L;
-        ArticleComment comment = createComment("content");
-        given(articleCommentRepository.findByArticleId(article_id)).willReturn(List.of(comment));
+        ArticleComment comment = createComment(10L, "content");
+        ArticleComment commentWithoutReplies = createComment(11L, "content2");
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.of(2023, 1, 1, 0, 0), 5L);
+        given(articleCommentRepository.findRootComments(article_id, cursor, 2))
+                .willReturn(new SliceImpl<>(List.of(comment, commentWithoutReplies), Pageable.ofSize(2), true));
+        given(articleCommentRepository.countRepliesByRootCommentIds(List.of(10L, 11L))).willReturn(Map.of(10L, 3L));
+        // When
+        Slice<ArticleCommentDto> comments = sut.getComments(article_id, cursor.encode(), 2);
+        // Then
+        assertThat(comments.hasNext()).isTrue();
+        assertThat(comments.getContent())
+                .extracting("content", "replyCount")
+                .containsExactly(tuple("content", 3L), tuple("content2", 0L));
+        then(articleCommentRepository).should().findRootComments(article_id, cursor, 2);
+        then(articleCommentRepository).should().countRepliesByRootCommentIds(List.of(10L, 11L));
+    }
+
+    @DisplayName("[예외] 잘못된 커서로 댓글 조회 시 첫 페이지 반환")
+    @Test
+    void getCommentsWithInvalidCursor() {
+        // Given
+        Long article_id = 1L;
+        given(articleCommentRepository.findRootComments(article_id, null, 20))
+                .willReturn(new SliceImpl<>(List.of(), Pageable.ofSize(20), false));
+        given(articleCommentRepository.countRepliesByRootCommentIds(List.of())).willReturn(Map.of());
         // When
-        List<ArticleCommentDto> comments = sut.getComments(article_id);
+        Slice<ArticleCommentDto> comments = sut.getComments(article_id, "invalid!", 20);
         // Then
-        assertThat(comments)
+        assertThat(comments).isEmpty();
+        then(articleCommentRepository).should().findRootComments(article_id, null, 20);
+    }
+
+    @DisplayName("최상위 댓글의 답글 커서 기반 조회")
+    @Test
+    void getReplies() {
+        // Given
+        Long rootCommentId = 10L;
+        ArticleComment reply = createComment(12L, "reply");
+        given(articleCommentRepository.findReplies(rootCommentId, null, 20))
+                .willReturn(new SliceImpl<>(List.of(reply), Pageable.ofSize(20), false));
+        // When
+        Slice<ArticleCommentDto> replies = sut.getReplies(rootCommentId, null, 20);
+        // Then
+        assertThat(replies.getContent())
                 .hasSize(1)
                 .first()
-                .hasFieldOrPropertyWithValue("content", comment.getContent());
-        then(articleCommentRepository).should().findByArticleId(article_id);
+                .hasFieldOrPropertyWithValue("content", "reply");
+        then(articleCommentRepository).should().findReplies(rootCommentId, null, 20);
     }
 
     @DisplayName("댓글 저장")
@@ -63,6 +112,24 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
+        then(articleRepository).should().addCommentCount(dto.articleId(), 1L);
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.created(dto.articleId(), articleComment.getId()));
+    }
+
+    @DisplayName("답글의 답글이 속한 스레드는 최상위 댓글")
+    @Test
+    void getThreadIdOfNestedReply() {
+        // Given
+        ArticleComment rootComment = createComment(1L, "root");
+        ArticleComment reply = createComment(2L, "reply");
+        ArticleComment nestedReply = createComment(3L, "nested reply");
+        rootComment.addChildComment(reply);
+        reply.addChildComment(nestedReply);
+        given(articleCommentRepository.findById(3L)).willReturn(Optional.of(nestedReply));
+        given(articleCommentRepository.findById(1L)).willReturn(Optional.of(rootComment));
+        // When & Then
+        assertThat(sut.getThreadId(3L)).isEqualTo(1L);
+        assertThat(sut.getThreadId(1L)).isEqualTo(1L);
     }
 
     @DisplayName("[예외] 존재하지 않는 게시글에 댓글 저장")
@@ -105,17 +172,39 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().getReferenceById(dto.id());
     }
 
-    @DisplayName("댓글 삭제")
+    @DisplayName("댓글 삭제 - 하위 댓글 수까지 게시글 댓글 수에서 차감")
     @Test
     void deleteComment() {
         // Given
         Long comment_id = 1L;
         String userId = "joo";
-        willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(comment_id, userId);
+        ArticleComment comment = createComment(comment_id, "content");
+        Article article = comment.getArticle();
+        ReflectionTestUtils.setField(article, "id", 10L);
+        given(articleCommentRepository.findByIdAndUserAccount_UserId(comment_id, userId)).willReturn(Optional.of(comment));
+        given(articleCommentRepository.countSubtree(comment_id, null)).willReturn(3L);
+        willDoNothing().given(articleCommentRepository).delete(comment);
+        // When
+        sut.deleteComment(comment_id, userId);
+        // Then
+        then(articleCommentRepository).should().delete(comment);
+        then(articleRepository).should().addCommentCount(10L, -3L);
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.deleted(10L, comment_id));
+    }
+
+    @DisplayName("[예외] 본인 댓글이 아니면 삭제하지 않음")
+    @Test
+    void deleteNotOwnedComment() {
+        // Given
+        Long comment_id = 1L;
+        String userId = "other";
+        given(articleCommentRepository.findByIdAndUserAccount_UserId(comment_id, userId)).willReturn(Optional.empty());
         // When
         sut.deleteComment(comment_id, userId);
         // Then
-        then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(comment_id, userId);
+        then(articleCommentRepository).should(never()).delete(any());
+        then(articleRepository).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     private ArticleCommentDto createCommentDto(String content) {
@@ -153,6 +242,13 @@ class ArticleCommentServiceTest {
                 content
         );
     }
+
+    private ArticleComment createComment(Long id, String content) {
+        ArticleComment articleComment = createComment(content);
+        ReflectionTestUtils.setField(articleComment, "id", id);
+        return articleComment;
+    }
+
     private UserAccount createUserAccount() {
         return UserAccount.of(
                 "joo",
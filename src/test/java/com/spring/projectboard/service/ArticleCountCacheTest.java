@@ -0,0 +1,94 @@
+package com.spring.projectboard.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("비지니스 로직 - 게시글 수 캐시")
+class ArticleCountCacheTest {
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ArticleCountCache sut = new ArticleCountCache(Runnable::run, transactionManager);
+
+    @DisplayName("다음 페이지가 없으면 COUNT 없이 전체 건수 확정")
+    @Test
+    void lastSliceNeedsNoCount() {
+        // Given
+        AtomicInteger countCalls = new AtomicInteger();
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), Pageable.ofSize(10).withPage(2), false);
+        // When
+        Page<String> page = sut.toPage(slice, "key", () -> countCalls.incrementAndGet());
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(22);
+        assertThat(countCalls).hasValue(0);
+    }
+
+    @DisplayName("다음 페이지가 있으면 처음에는 최소 건수, 갱신된 이후에는 캐싱된 건수 사용")
+    @Test
+    void middleSliceUsesCachedCount() {
+        // Given
+        AtomicInteger countCalls = new AtomicInteger();
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), Pageable.ofSize(2), true);
+        // When
+        Page<String> firstPage = sut.toPage(slice, "key", () -> {
+            countCalls.incrementAndGet();
+            return 100;
+        });
+        Page<String> secondPage = sut.toPage(slice, "key", () -> {
+            countCalls.incrementAndGet();
+            return 200;
+        });
+        // Then
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(secondPage.getTotalElements()).isEqualTo(100);
+        assertThat(countCalls).hasValue(1);
+    }
+
+    @DisplayName("검색 조건이 최대 개수를 넘어도 자주 쓰는 건수는 다시 세지 않음")
+    @Test
+    void hotCountSurvivesKeyOverflow() {
+        // Given
+        AtomicInteger hotCountCalls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            sut.getCount("", () -> {
+                hotCountCalls.incrementAndGet();
+                return 100;
+            });
+        }
+        // When
+        for (int i = 0; i < 2_000; i++) {
+            sut.getCount("TITLE:keyword" + i, () -> 1);
+        }
+        long hotCount = sut.getCount("", () -> {
+            hotCountCalls.incrementAndGet();
+            return 200;
+        });
+        // Then
+        assertThat(hotCount).isEqualTo(100);
+        assertThat(hotCountCalls).hasValue(1);
+    }
+
+    @DisplayName("COUNT 는 읽기 전용 트랜잭션에서 실행")
+    @Test
+    void countRunsInReadOnlyTransaction() {
+        // Given
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        // When
+        sut.getCount("key", () -> 100);
+        // Then
+        then(transactionManager).should().getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        assertThat(sut.getCount("key", () -> 200)).isEqualTo(100);
+    }
+}
@@ -0,0 +1,90 @@
+package com.spring.projectboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spring.projectboard.domain.constant.ExportFormat;
+import com.spring.projectboard.dto.ArticleCommentExportDto;
+import com.spring.projectboard.dto.ArticleExportDto;
+import com.spring.projectboard.repository.ArticleCommentRepository;
+import com.spring.projectboard.repository.ArticleRepository;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 내보내기")
+@ExtendWith(MockitoExtension.class)
+class ArticleExportServiceTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 1, 2, 3, 4, 5);
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+
+    private ArticleExportService sut;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        sut = new ArticleExportService(articleRepository, articleCommentRepository, objectMapper);
+    }
+
+    @DisplayName("게시글을 한 줄에 하나씩 NDJSON 으로 쓰고 커서를 닫음")
+    @Test
+    void exportArticlesAsNdjson() throws IOException {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean(false);
+        given(articleRepository.streamAllForExport()).willReturn(Stream.of(
+                createArticleExportDto(1L, "title", "content"),
+                createArticleExportDto(2L, "title2", "content2")
+        ).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // When
+        long count = sut.exportArticles(ExportFormat.NDJSON, outputStream);
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n"))
+                .hasSize(2)
+                .first(InstanceOfAssertFactories.STRING)
+                .startsWith("{\"id\":1,\"userId\":\"joo\",\"title\":\"title\"")
+                .contains("\"createdAt\":\"2023-01-02T03:04:05\"");
+        assertThat(closed).isTrue();
+    }
+
+    @DisplayName("CSV 는 헤더를 쓰고 쉼표, 큰따옴표, 줄바꿈이 있는 값은 따옴표로 감쌈")
+    @Test
+    void exportCommentsAsCsv() throws IOException {
+        // Given
+        given(articleCommentRepository.streamAllForExport()).willReturn(Stream.of(
+                ArticleCommentExportDto.of(1L, 1L, "joo", null, null, "a, \"b\"\nc", CREATED_AT, "joo", CREATED_AT, "joo")
+        ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // When
+        long count = sut.exportArticleComments(ExportFormat.CSV, outputStream);
+        // Then
+        assertThat(count).isEqualTo(1);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,articleId,userId,parentCommentId,rootCommentId,content,createdAt,createdBy,modifiedAt,modifiedBy
+                1,1,joo,,,"a, ""b""
+                c",2023-01-02T03:04:05,joo,2023-01-02T03:04:05,joo
+                """);
+    }
+
+    private ArticleExportDto createArticleExportDto(Long id, String title, String content) {
+        return ArticleExportDto.of(id, "joo", title, content, 0L, 0L, CREATED_AT, "joo", CREATED_AT, "joo");
+    }
+}
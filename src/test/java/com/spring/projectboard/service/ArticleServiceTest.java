@@ -3,12 +3,20 @@ package com.spring.projectboard.service;
 import com.spring.projectboard.domain.Article;
 import com.spring.projectboard.domain.Hashtag;
 import com.spring.projectboard.domain.UserAccount;
+import com.spring.projectboard.domain.constant.HashtagMatchMode;
 import com.spring.projectboard.domain.constant.SearchType;
+import com.spring.projectboard.dto.ArticleCommentDto;
+import com.spring.projectboard.dto.ArticleCursor;
 import com.spring.projectboard.dto.ArticleDto;
+import com.spring.projectboard.dto.ArticleSummaryDto;
+import com.spring.projectboard.dto.ArticleVersionDto;
+import com.spring.projectboard.dto.ArticleWithCommentsDto;
 import com.spring.projectboard.dto.UserAccountDto;
+import com.spring.projectboard.event.ArticleEvent;
 import com.spring.projectboard.repository.ArticleRepository;
 import com.spring.projectboard.repository.HashtagRepository;
 import com.spring.projectboard.repository.UserAccountRepository;
+import com.spring.projectboard.search.ArticleSearchEngine;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -23,6 +32,7 @@ import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
@@ -34,21 +44,65 @@ class ArticleServiceTest {
     @InjectMocks private ArticleService sut; //system under test
     @Mock private HashtagService hashtagService;
     @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentService articleCommentService;
     @Mock private UserAccountRepository userAccountRepository;
     @Mock private HashtagRepository hashtagRepository;
+    @Mock private ArticleSearchEngine articleSearchEngine;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ArticleCountCache articleCountCache;
+    @Mock private ArticleViewCounter articleViewCounter;
+    @Mock private TrendingArticleRanking trendingArticleRanking;
 
-    @DisplayName("검색어로 게시글 페이지 반환")
+    @DisplayName("제목 검색어로 검색 엔진에서 게시글 페이지 반환")
     @Test
     void searchArticles() {
         // Given
         String keyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(keyword, pageable)).willReturn(Page.empty());
+        given(articleSearchEngine.search(SearchType.TITLE, keyword, pageable)).willReturn(Page.empty());
         // When
-        Page<ArticleDto> articles = sut.searchArticles(SearchType.TITLE, keyword, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.TITLE, keyword, pageable);
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(keyword, pageable);
+        then(articleSearchEngine).should().search(SearchType.TITLE, keyword, pageable);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("닉네임 검색어로 DB 에서 COUNT 없이 게시글 페이지 반환")
+    @Test
+    void searchArticlesByNickname() {
+        // Given
+        String keyword = "joo";
+        Pageable pageable = Pageable.ofSize(20);
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSummarySlice(SearchType.NICKNAME, keyword, pageable)).willReturn(slice);
+        given(articleCountCache.toPage(eq(slice), eq("NICKNAME:joo"), any())).willReturn(Page.empty(pageable));
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.NICKNAME, keyword, pageable);
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummarySlice(SearchType.NICKNAME, keyword, pageable);
+        then(articleRepository).should(never()).countSummaries(any(), any());
+        then(articleSearchEngine).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 검색어는 '#' 없이도 해시태그 이름으로 바꿔 교집합/합집합 조회")
+    @Test
+    void searchArticlesByHashtags() {
+        // Given
+        String keyword = "#Java spring";
+        Set<String> hashtagNames = Set.of("java", "spring");
+        Pageable pageable = Pageable.ofSize(20);
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSummariesByHashtagNames(hashtagNames, HashtagMatchMode.ANY, pageable)).willReturn(slice);
+        given(articleCountCache.toPage(eq(slice), eq("HASHTAG:ANY:java spring"), any())).willReturn(Page.empty(pageable));
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(SearchType.HASHTAG, keyword, HashtagMatchMode.ANY, pageable);
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummariesByHashtagNames(hashtagNames, HashtagMatchMode.ANY, pageable);
+        then(articleRepository).should(never()).findSummarySlice(any(), any(), any());
+        then(articleSearchEngine).shouldHaveNoInteractions();
     }
 
     @DisplayName("검색어 없이 게시글 페이지 반환")
@@ -56,12 +110,54 @@ class ArticleServiceTest {
     void noSearchArticles() {
         // Given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSummarySlice(null, null, pageable)).willReturn(slice);
+        given(articleCountCache.toPage(eq(slice), eq(""), any())).willReturn(Page.empty(pageable));
+        // When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummarySlice(null, null, pageable);
+    }
+
+    @DisplayName("커서 없이 게시글 슬라이스 반환")
+    @Test
+    void searchArticlesByCursor() {
+        // Given
+        int size = 10;
+        given(articleRepository.findSummariesByCursor(null, size)).willReturn(new SliceImpl<>(List.of()));
         // When
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Slice<ArticleSummaryDto> articles = sut.searchArticlesByCursor(null, size);
         // Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findSummariesByCursor(null, size);
+    }
+
+    @DisplayName("커서 이후의 게시글 슬라이스 반환")
+    @Test
+    void searchArticlesAfterCursor() {
+        // Given
+        int size = 10;
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.of(2023, 1, 1, 0, 0), 5L);
+        given(articleRepository.findSummariesByCursor(cursor, size)).willReturn(new SliceImpl<>(List.of(createArticleSummaryDto())));
+        // When
+        Slice<ArticleSummaryDto> articles = sut.searchArticlesByCursor(cursor.encode(), size);
+        // Then
+        assertThat(articles).hasSize(1);
+        then(articleRepository).should().findSummariesByCursor(cursor, size);
+    }
+
+    @DisplayName("[예외] 잘못된 커서는 첫 페이지로 조회")
+    @Test
+    void searchArticlesWithInvalidCursor() {
+        // Given
+        int size = 10;
+        given(articleRepository.findSummariesByCursor(null, size)).willReturn(new SliceImpl<>(List.of()));
+        // When
+        Slice<ArticleSummaryDto> articles = sut.searchArticlesByCursor("invalid-cursor", size);
+        // Then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummariesByCursor(null, size);
     }
 
     @DisplayName("해시태그 검색하여 게시글 페이지 반환")
@@ -69,14 +165,16 @@ class ArticleServiceTest {
     void searchArticlesWithHashtag() {
         // Given
         String hashtagName = "java";
-        Article expectedArticle = createArticle();
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtagNames(Set.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(createArticleSummaryDto()), pageable, false);
+        Page<ArticleSummaryDto> expected = new PageImpl<>(slice.getContent(), pageable, 1);
+        given(articleRepository.findSummariesByHashtagNames(Set.of(hashtagName), HashtagMatchMode.ALL, pageable)).willReturn(slice);
+        given(articleCountCache.toPage(eq(slice), eq("HASHTAG:ALL:java"), any())).willReturn(expected);
         // When
-        Page<ArticleDto> articles = sut.searchArticleDtosViaHashtag(hashtagName, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
         // Then
-        assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleDto.from(expectedArticle)), pageable, 1));
-        then(articleRepository).should().findByHashtagNames(Set.of(hashtagName), pageable);
+        assertThat(articles).isEqualTo(expected);
+        then(articleRepository).should().findSummariesByHashtagNames(Set.of(hashtagName), HashtagMatchMode.ALL, pageable);
     }
 
     @DisplayName("[예외] 해시태그 검색에 해시태그가 없으면 빈 페이지 반환")
@@ -85,7 +183,7 @@ class ArticleServiceTest {
         // Given
         Pageable pageable = Pageable.ofSize(20);
         // When
-        Page<ArticleDto> articles = sut.searchArticleDtosViaHashtag(null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(null, pageable);
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
         then(hashtagRepository).shouldHaveNoInteractions();
@@ -98,72 +196,120 @@ class ArticleServiceTest {
         // Given
         String hashtagName = "null";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtagNames(Set.of(hashtagName), pageable)).willReturn(Page.empty(pageable));
+        Slice<ArticleSummaryDto> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(articleRepository.findSummariesByHashtagNames(Set.of(hashtagName), HashtagMatchMode.ALL, pageable)).willReturn(slice);
+        given(articleCountCache.toPage(eq(slice), eq("HASHTAG:ALL:null"), any())).willReturn(Page.empty(pageable));
         // When
-        Page<ArticleDto> articles = sut.searchArticleDtosViaHashtag(hashtagName, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
         then(hashtagRepository).shouldHaveNoInteractions();
-        then(articleRepository).should().findByHashtagNames(Set.of(hashtagName), pageable);
+        then(articleRepository).should().findSummariesByHashtagNames(Set.of(hashtagName), HashtagMatchMode.ALL, pageable);
     }
 
-    @DisplayName("Page와 Index로 게시글 조회")
+    @DisplayName("ID로 게시글 조회")
     @Test
-    void findArticleWithCommentsByPageIndex() {
+    void getArticle() {
         // Given
-        int articleIndex = 0;
-        int pageNumber = 0;
-        int pageSize = 10;
-        String sortName = "createdAt";
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, sortName));
-        Article article = createArticle();
-        given(articleRepository.findAll(pageable)).willReturn(new PageImpl(List.of(article), pageable, 1));
+        Long articleId = 1L;
+        Article article = createArticle(articleId);
+        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
         // When
-        Article result = sut.getArticleByPageIndex(articleIndex, pageable);
+        ArticleDto dto = sut.getArticle(articleId);
         // Then
-        assertThat(result)
+        assertThat(dto)
+                .hasFieldOrPropertyWithValue("id", articleId)
                 .hasFieldOrPropertyWithValue("title", article.getTitle())
-                .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtags", article.getHashtags());
+                .hasFieldOrPropertyWithValue("content", article.getContent());
+        then(articleRepository).should().findById(articleId);
+    }
 
-        then(articleRepository).should().findAll(pageable);
+    @DisplayName("ID로 댓글 달린 게시글 조회 - 최상위 댓글 한 페이지")
+    @Test
+    void getArticleWithComments() {
+        // Given
+        Long articleId = 1L;
+        Article article = createArticle(articleId);
+        ArticleCommentDto rootComment = createArticleCommentDto(10L, 3L);
+        given(articleRepository.findDetailById(articleId)).willReturn(Optional.of(article));
+        given(articleCommentService.getComments(articleId, null, 1))
+                .willReturn(new SliceImpl<>(List.of(rootComment), Pageable.ofSize(1), true));
+        // When
+        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId, null, 1);
+        // Then
+        assertThat(dto)
+                .hasFieldOrPropertyWithValue("id", articleId)
+                .hasFieldOrPropertyWithValue("title", article.getTitle())
+                .hasFieldOrPropertyWithValue("content", article.getContent())
+                .hasFieldOrPropertyWithValue("hasMoreComments", true);
+        assertThat(dto.articleCommentDtos()).containsExactly(rootComment);
+        then(articleRepository).should().findDetailById(articleId);
+        then(articleCommentService).should().getComments(articleId, null, 1);
     }
 
-    @DisplayName("[예외] Page와 Index로 존재하지 않는 댓글 달린 게시글 조회")
+    @DisplayName("[예외] ID로 없는 게시글 조회")
     @Test
-    void findNotExistArticleWithComments() {
+    void getNotExistArticle() {
         // Given
-        int articleIndex = 1;
-        int pageNumber = 0;
-        int pageSize = 10;
-        String sortName = "createdAt";
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, sortName));
-        Article article = createArticle();
-        given(articleRepository.findAll(pageable)).willReturn(new PageImpl(List.of(article), pageable, 1));
+        Long articleId = 0L;
+        given(articleRepository.findDetailById(articleId)).willReturn(Optional.empty());
         // When & Then
-        assertThatThrownBy(() -> sut
-                .getArticleWithCommentsDtoByPageIndex(articleIndex, pageable))
-                .isInstanceOf(EntityNotFoundException.class);
-        then(articleRepository).should().findAll(pageable);
+        assertThatThrownBy(() -> sut.getArticleWithComments(articleId, null, 20))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("게시글이 없습니다 - articleId: " + articleId);
+        then(articleRepository).should().findDetailById(articleId);
+        then(articleCommentService).shouldHaveNoInteractions();
     }
 
+    @DisplayName("조회수는 바로 반영하지 않고 조회수 집계기에 모음")
+    @Test
+    void increaseViewCount() {
+        // Given
+        Long articleId = 1L;
+        // When
+        sut.increaseViewCount(articleId);
+        // Then
+        then(articleViewCounter).should().increment(articleId);
+        then(trendingArticleRanking).should().recordView(articleId);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
 
-    @DisplayName("[예외] Page와 Index로 없는 게시글 조회")
+    @DisplayName("인기 게시글은 순위에 오른 ID 로만 조회")
     @Test
-    void findNotExistArticle() {
+    void getTrendingArticles() {
         // Given
-        int articleIndex = 1;
-        int pageNumber = 0;
-        int pageSize = 10;
-        String sortName = "createdAt";
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, sortName));
-        Article article = createArticle();
-        given(articleRepository.findAll(pageable)).willReturn(new PageImpl(List.of(article), pageable, 1));
-        // When & Then
-        assertThatThrownBy(() -> sut
-                .getArticleDtoByPageIndex(articleIndex, pageable))
-                .isInstanceOf(EntityNotFoundException.class);
-        then(articleRepository).should().findAll(pageable);
+        Pageable pageable = PageRequest.of(1, 2, Sort.by("trending"));
+        ArticleSummaryDto summary = createArticleSummaryDto();
+        given(trendingArticleRanking.getTopArticleIds(2L, 2)).willReturn(List.of(7L, 3L));
+        given(trendingArticleRanking.size()).willReturn(3);
+        given(articleRepository.findSummariesByIds(List.of(7L, 3L))).willReturn(List.of(summary));
+        // When
+        Page<ArticleSummaryDto> articles = sut.getTrendingArticles(pageable);
+        // Then
+        assertThat(articles.getContent()).containsExactly(summary);
+        assertThat(articles.getTotalElements()).isEqualTo(3L);
+        then(articleRepository).should().findSummariesByIds(List.of(7L, 3L));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("게시글 검증값 조회 시 목록의 이전, 다음 게시글 ID 를 함께 채움")
+    @Test
+    void getArticleVersionWithNeighbourIds() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2023, 7, 1, 0, 0);
+        ArticleCursor cursor = ArticleCursor.of(createdAt, 2L);
+        given(articleRepository.findVersionById(2L))
+                .willReturn(Optional.of(new ArticleVersionDto(2L, createdAt, createdAt, 0L, 0L, null, null)));
+        given(articleRepository.findPreviousId(cursor)).willReturn(Optional.of(3L));
+        given(articleRepository.findNextId(cursor)).willReturn(Optional.empty());
+        // When
+        ArticleVersionDto version = sut.getArticleVersion(2L);
+        // Then
+        assertThat(version)
+                .hasFieldOrPropertyWithValue("previousArticleId", 3L)
+                .hasFieldOrPropertyWithValue("nextArticleId", null);
+        then(articleRepository).should().findPreviousId(cursor);
+        then(articleRepository).should().findNextId(cursor);
     }
 
     @DisplayName("본문에서 해시태그를 추출하여 해시태그가 포함된 게시글을 저장")
@@ -176,15 +322,16 @@ class ArticleServiceTest {
         expectedHashtags.add(createHashtag("java"));
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
         given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.saveHashtags(expectedHashtagNames, dto.userAccountDto().userId())).willReturn(expectedHashtags);
         given(articleRepository.save(any(Article.class))).willReturn(createArticle());
         // When
         sut.saveArticle(dto);
         // Then
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagByNames(expectedHashtagNames);
+        then(hashtagService).should().saveHashtags(expectedHashtagNames, dto.userAccountDto().userId());
         then(articleRepository).should().save(any(Article.class));
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
     @DisplayName("게시글 수정")
@@ -195,12 +342,13 @@ class ArticleServiceTest {
         ArticleDto articleDto = createArticleDto("new title", "new content #springboot");
         Set<String> expectedHashtagNames = Set.of("springboot");
         Set<Hashtag> expectedHashtags = new HashSet<>();
+        expectedHashtags.add(createHashtag(3L, "springboot"));
         given(articleRepository.getReferenceById(articleDto.id())).willReturn(article);
         given(userAccountRepository.getReferenceById(articleDto.userAccountDto().userId())).willReturn(articleDto.userAccountDto().toEntity());
         willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(anyLong());
+        willDoNothing().given(hashtagService).deleteHashtagsWithoutArticles(anySet());
         given(hashtagService.parseHashtagNames(articleDto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.saveHashtags(expectedHashtagNames, articleDto.userAccountDto().userId())).willReturn(expectedHashtags);
         // When
         sut.updateArticle(articleDto.id(), articleDto);
         // Then
@@ -214,9 +362,9 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(articleDto.id());
         then(userAccountRepository).should().getReferenceById(articleDto.userAccountDto().userId());
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(1L, 2L));
         then(hashtagService).should().parseHashtagNames(articleDto.content());
-        then(hashtagService).should().findHashtagByNames(expectedHashtagNames);
+        then(hashtagService).should().saveHashtags(expectedHashtagNames, articleDto.userAccountDto().userId());
     }
 
     @DisplayName("[예외] 없는 게시글 수정")
@@ -258,29 +406,17 @@ class ArticleServiceTest {
         Long articleId = 1L;
         String userId = "joo";
         given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
+        given(articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId)).willReturn(1L);
         willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(anyLong());
+        willDoNothing().given(hashtagService).deleteHashtagsWithoutArticles(anySet());
         // When
         sut.deleteArticle(articleId, userId);
         // Then
         then(articleRepository).should().getReferenceById(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
         then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(anyLong());
-    }
-
-    @DisplayName("게시글 수 반환")
-    @Test
-    void countArticles() {
-        // Given
-        long expected = 0L;
-        given(articleRepository.count()).willReturn(expected);
-        // When
-        long actual = sut.getArticleCount();
-        // Then
-        assertThat(actual).isEqualTo(expected);
-        then(articleRepository).should().count();
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(1L, 2L));
+        then(eventPublisher).should().publishEvent(ArticleEvent.deleted(articleId, Set.of("java", "spring")));
     }
 
     private Article createArticle() {
@@ -301,6 +437,11 @@ class ArticleServiceTest {
         return article;
     }
 
+    private ArticleCommentDto createArticleCommentDto(Long id, long replyCount) {
+        return ArticleCommentDto.of(id, 1L, createUserAccountDto(), null, "comment " + id,
+                LocalDateTime.now(), "joo", LocalDateTime.now(), "joo", replyCount);
+    }
+
     private UserAccount createUserAccount() {
         return createUserAccount("joo");
     }
@@ -333,6 +474,19 @@ class ArticleServiceTest {
         );
     }
 
+    private ArticleSummaryDto createArticleSummaryDto() {
+        return ArticleSummaryDto.of(
+                1L,
+                "title",
+                "content",
+                Set.of("java"),
+                LocalDateTime.now(),
+                "joo",
+                "joo@gmail.com",
+                "joo"
+        );
+    }
+
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "joo",
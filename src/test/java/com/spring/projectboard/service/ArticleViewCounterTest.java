@@ -0,0 +1,92 @@
+package com.spring.projectboard.service;
+
+import com.spring.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 조회수 집계")
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCounterTest {
+    @InjectMocks private ArticleViewCounter sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @DisplayName("모아둔 조회수를 게시글별 증가량으로 묶어 한 번에 반영")
+    @Test
+    void flush() {
+        // Given
+        sut.increment(1L);
+        sut.increment(1L);
+        sut.increment(1L);
+        sut.increment(2L);
+        // When
+        sut.flush();
+        // Then
+        then(articleRepository).should().addViewCounts(Map.of(1L, 3L, 2L, 1L));
+        assertThat(sut.getPendingViews(1L)).isZero();
+    }
+
+    @DisplayName("새 조회가 없으면 UPDATE 하지 않음")
+    @Test
+    void flushWithoutViews() {
+        // Given
+        sut.increment(1L);
+        sut.flush();
+        // When
+        sut.flush();
+        // Then
+        then(articleRepository).should(times(1)).addViewCounts(any());
+    }
+
+    @DisplayName("[예외] 반영에 실패한 조회수는 다음 반영 때 다시 시도")
+    @Test
+    void flushFailure() {
+        // Given
+        sut.increment(1L);
+        sut.increment(1L);
+        willThrow(new IllegalStateException("db down"))
+                .willDoNothing()
+                .given(articleRepository).addViewCounts(Map.of(1L, 2L));
+        // When
+        sut.flush();
+        long pendingAfterFailure = sut.getPendingViews(1L);
+        sut.flush();
+        // Then
+        assertThat(pendingAfterFailure).isEqualTo(2L);
+        assertThat(sut.getPendingViews(1L)).isZero();
+        then(articleRepository).should(times(2)).addViewCounts(Map.of(1L, 2L));
+    }
+
+    @DisplayName("동시에 들어온 조회수를 빠짐없이 모음")
+    @Test
+    void concurrentIncrements() throws InterruptedException {
+        // Given
+        int threads = 8;
+        int viewsPerThread = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        // When
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    sut.increment(1L);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        sut.flush();
+        // Then
+        then(articleRepository).should().addViewCounts(Map.of(1L, (long) threads * viewsPerThread));
+    }
+}
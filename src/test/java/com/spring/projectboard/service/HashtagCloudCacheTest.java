@@ -0,0 +1,75 @@
+package com.spring.projectboard.service;
+
+import com.spring.projectboard.dto.HashtagCountDto;
+import com.spring.projectboard.event.ArticleEvent;
+import com.spring.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 해시태그 캐시")
+@ExtendWith(MockitoExtension.class)
+class HashtagCloudCacheTest {
+    @InjectMocks private HashtagCloudCache sut;
+    @Mock private HashtagRepository hashtagRepository;
+
+    @DisplayName("처음 조회할 때만 DB 에서 집계하고 게시글 수 순으로 반환")
+    @Test
+    void loadsOnceAndSortsByCount() {
+        // Given
+        given(hashtagRepository.findHashtagCounts()).willReturn(List.of(
+                HashtagCountDto.of("spring", 1),
+                HashtagCountDto.of("java", 3),
+                HashtagCountDto.of("boot", 1)
+        ));
+        // When
+        List<HashtagCountDto> first = sut.getTopHashtags(2);
+        List<HashtagCountDto> second = sut.getTopHashtags(10);
+        // Then
+        assertThat(first).containsExactly(HashtagCountDto.of("java", 3), HashtagCountDto.of("boot", 1));
+        assertThat(second).hasSize(3);
+        then(hashtagRepository).should(times(1)).findHashtagCounts();
+    }
+
+    @DisplayName("게시글 변경 이벤트로 해시태그별 게시글 수 증감, 0 이 되면 제거")
+    @Test
+    void appliesArticleEvents() {
+        // Given
+        given(hashtagRepository.findHashtagCounts()).willReturn(List.of(
+                HashtagCountDto.of("java", 1),
+                HashtagCountDto.of("spring", 2)
+        ));
+        sut.getTopHashtags(10);
+        // When
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.UPDATED, 1L, "title", "content", Set.of("boot"), Set.of("java")));
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.CREATED, 2L, "title", "content", Set.of("spring"), Set.of()));
+        // Then
+        assertThat(sut.getTopHashtags(10))
+                .containsExactly(HashtagCountDto.of("spring", 3), HashtagCountDto.of("boot", 1));
+        then(hashtagRepository).should(times(1)).findHashtagCounts();
+    }
+
+    @DisplayName("집계 전 이벤트는 무시하고, invalidate 이후에는 다시 집계")
+    @Test
+    void invalidateReloads() {
+        // Given
+        given(hashtagRepository.findHashtagCounts()).willReturn(List.of(HashtagCountDto.of("java", 1)));
+        sut.onArticleEvent(ArticleEvent.deleted(1L, Set.of("java")));
+        sut.getTopHashtags(10);
+        // When
+        sut.invalidate();
+        List<HashtagCountDto> hashtags = sut.getTopHashtags(10);
+        // Then
+        assertThat(hashtags).containsExactly(HashtagCountDto.of("java", 1));
+        then(hashtagRepository).should(times(2)).findHashtagCounts();
+    }
+}
@@ -1,8 +1,7 @@
 package com.spring.projectboard.service;
 
-import com.spring.projectboard.domain.Article;
 import com.spring.projectboard.domain.Hashtag;
-import com.spring.projectboard.domain.UserAccount;
+import com.spring.projectboard.dto.HashtagCountDto;
 import com.spring.projectboard.repository.HashtagRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +26,7 @@ import static org.mockito.BDDMockito.*;
 class HashtagServiceTest {
     @InjectMocks private HashtagService sut;
     @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagCloudCache hashtagCloudCache;
 
     @DisplayName("본문에 있는 해시태그 파싱")
     @MethodSource
@@ -97,64 +97,59 @@ class HashtagServiceTest {
         then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
     }
 
-    @DisplayName("해시태그 리스트 조회")
+    @DisplayName("해시태그들을 upsert 한 뒤 해시태그 엔티티 반환")
     @Test
-    void getHashtagsTest(){
+    void saveHashtags() {
         // Given
-        List<String> expectedHashtags = List.of("#java", "#spring", "#boot");
-        given(hashtagRepository.findAllHashtagNames()).willReturn(expectedHashtags);
+        Set<String> hashtagNames = Set.of("java", "spring");
+        String createdBy = "joo";
+        List<Hashtag> expectedHashtags = List.of(Hashtag.of("java"), Hashtag.of("spring"));
+        willDoNothing().given(hashtagRepository).upsertHashtagNames(hashtagNames, createdBy);
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(expectedHashtags);
         // When
-        List<String> actualHashtags = sut.getHashtags();
+        Set<Hashtag> hashtags = sut.saveHashtags(hashtagNames, createdBy);
         // Then
-        assertThat(actualHashtags).isEqualTo(expectedHashtags);
-        then(hashtagRepository).should().findAllHashtagNames();
+        assertThat(hashtags).containsExactlyInAnyOrderElementsOf(expectedHashtags);
+        then(hashtagRepository).should().upsertHashtagNames(hashtagNames, createdBy);
+        then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
     }
 
-    @DisplayName("해시태그 삭제")
+    @DisplayName("저장할 해시태그가 없으면 DB 를 조회하지 않음")
     @Test
-    void deleteHashtag() {
+    void saveEmptyHashtags() {
         // Given
-        long hashtagId = 1L;
-        Hashtag hashtag = createHashtag();
-        given(hashtagRepository.getReferenceById(hashtagId)).willReturn(hashtag);
-        willDoNothing().given(hashtagRepository).delete(hashtag);
+
         // When
-        sut.deleteHashtagWithoutArticles(hashtagId);
+        Set<Hashtag> hashtags = sut.saveHashtags(Set.of(), "joo");
         // Then
-        then(hashtagRepository).should().getReferenceById(hashtagId);
-        then(hashtagRepository).should().delete(hashtag);
+        assertThat(hashtags).isEmpty();
+        then(hashtagRepository).shouldHaveNoInteractions();
     }
 
-    @DisplayName("게시글을 가지는 해시태그는 삭제하지 않음")
+    @DisplayName("인기 해시태그 조회")
     @Test
-    void deleteHashtagNotEmptyArticles() {
+    void getPopularHashtags() {
         // Given
-        long hashtagId = 1L;
-        String expectedHashtagName = "java";
-        Hashtag hashtag = createHashtagWithArticles();
-        given(hashtagRepository.getReferenceById(hashtagId)).willReturn(hashtag);
+        List<HashtagCountDto> expectedHashtags = List.of(HashtagCountDto.of("java", 3), HashtagCountDto.of("spring", 1));
+        given(hashtagCloudCache.getTopHashtags(2)).willReturn(expectedHashtags);
         // When
-        sut.deleteHashtagWithoutArticles(hashtagId);
+        List<HashtagCountDto> actualHashtags = sut.getPopularHashtags(2);
         // Then
-        then(hashtagRepository).should().getReferenceById(hashtagId);
-        then(hashtagRepository).should(times(0)).delete(hashtag);
-    }
-
-    private Hashtag createHashtag() {
-        return Hashtag.of("java");
-    }
-
-    private Hashtag createHashtagWithArticles() {
-        Hashtag hashtag = Hashtag.of("java");
-        hashtag.getArticles().add(createArticle());
-        return hashtag;
-    }
-
-    private Article createArticle() {
-        return Article.of(createUserAccount(), "title", "content");
+        assertThat(actualHashtags).isEqualTo(expectedHashtags);
+        then(hashtagCloudCache).should().getTopHashtags(2);
+        then(hashtagRepository).shouldHaveNoInteractions();
     }
 
-    private UserAccount createUserAccount() {
-        return UserAccount.of("joo", "pw", "joo@gmail.com", "joo", "memo");
+    @DisplayName("게시글이 없는 해시태그 일괄 삭제")
+    @Test
+    void deleteHashtagsWithoutArticles() {
+        // Given
+        Set<Long> hashtagIds = Set.of(1L, 2L);
+        given(hashtagRepository.deleteOrphansByIdIn(hashtagIds)).willReturn(1);
+        // When
+        sut.deleteHashtagsWithoutArticles(hashtagIds);
+        // Then
+        then(hashtagRepository).should().deleteOrphansByIdIn(hashtagIds);
+        then(hashtagRepository).shouldHaveNoMoreInteractions();
     }
 }
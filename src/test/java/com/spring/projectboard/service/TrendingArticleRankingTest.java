@@ -0,0 +1,122 @@
+package com.spring.projectboard.service;
+
+import com.spring.projectboard.dto.ArticleActivityDto;
+import com.spring.projectboard.event.ArticleCommentEvent;
+import com.spring.projectboard.event.ArticleEvent;
+import com.spring.projectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 인기 게시글 순위")
+@ExtendWith(MockitoExtension.class)
+class TrendingArticleRankingTest {
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Mock private ArticleRepository articleRepository;
+
+    private TrendingArticleRanking sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TrendingArticleRanking(
+                articleRepository,
+                new TrendingArticleRanking.TrendingProperties(Duration.ofHours(24), 3, Duration.ofDays(7), 10, 5, 1)
+        );
+    }
+
+    @DisplayName("처음 조회할 때 최근 게시글의 댓글 수, 조회수로 순위를 채움")
+    @Test
+    void loadsRecentActivities() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        given(articleRepository.findActivitiesCreatedAfter(any(LocalDateTime.class), eq(3))).willReturn(List.of(
+                ArticleActivityDto.of(1L, now, 0L, 0L),
+                ArticleActivityDto.of(2L, now, 2L, 30L),
+                ArticleActivityDto.of(3L, now, 1L, 0L)
+        ));
+        // When
+        List<Long> articleIds = sut.getTopArticleIds(0, 10);
+        sut.getTopArticleIds(0, 10);
+        // Then
+        assertThat(articleIds).containsExactly(2L, 3L, 1L);
+        assertThat(sut.size()).isEqualTo(3);
+        then(articleRepository).should(times(1)).findActivitiesCreatedAfter(any(LocalDateTime.class), eq(3));
+    }
+
+    @DisplayName("같은 활동이라도 오래된 활동은 반감기마다 점수가 절반이 됨")
+    @Test
+    void decaysOldActivities() {
+        // Given
+        given(articleRepository.findActivitiesCreatedAfter(any(LocalDateTime.class), anyInt())).willReturn(List.of());
+        sut.getTopArticleIds(0, 1);
+        long now = System.currentTimeMillis();
+        // When
+        sut.record(1L, 30, now - 48 * HOUR); // 30 / 4 = 7.5
+        sut.record(2L, 10, now);
+        sut.record(3L, 5, now - 24 * HOUR);  // 5 / 2 = 2.5
+        sut.record(3L, 6, now);               // 2.5 + 6 = 8.5
+        // Then
+        assertThat(sut.getTopArticleIds(0, 3)).containsExactly(2L, 3L, 1L);
+        assertThat(sut.getTopArticleIds(1, 1)).containsExactly(3L);
+    }
+
+    @DisplayName("순위는 capacity 만큼만 유지하고 점수가 가장 낮은 게시글부터 제외")
+    @Test
+    void evictsLowestScore() {
+        // Given
+        given(articleRepository.findActivitiesCreatedAfter(any(LocalDateTime.class), anyInt())).willReturn(List.of());
+        sut.getTopArticleIds(0, 1);
+        long now = System.currentTimeMillis();
+        // When
+        sut.record(1L, 4, now);
+        sut.record(2L, 1, now);
+        sut.record(3L, 3, now);
+        sut.record(4L, 2, now);
+        // Then
+        assertThat(sut.getTopArticleIds(0, 10)).containsExactly(1L, 3L, 4L);
+        assertThat(sut.size()).isEqualTo(3);
+    }
+
+    @DisplayName("새 댓글은 점수를 올리고 삭제된 게시글은 순위에서 제외")
+    @Test
+    void appliesEvents() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        given(articleRepository.findActivitiesCreatedAfter(any(LocalDateTime.class), anyInt())).willReturn(List.of(
+                ArticleActivityDto.of(1L, now, 0L, 3L),
+                ArticleActivityDto.of(2L, now, 0L, 0L)
+        ));
+        sut.getTopArticleIds(0, 1);
+        // When
+        sut.onArticleCommentEvent(ArticleCommentEvent.created(2L, 100L));
+        sut.onArticleCommentEvent(ArticleCommentEvent.deleted(2L, 100L));
+        List<Long> afterComment = sut.getTopArticleIds(0, 10);
+        sut.onArticleEvent(ArticleEvent.deleted(2L, Set.of()));
+        // Then
+        assertThat(afterComment).containsExactly(2L, 1L);
+        assertThat(sut.getTopArticleIds(0, 10)).containsExactly(1L);
+    }
+
+    @DisplayName("집계 전 활동은 무시 (처음 조회할 때 DB 값으로 채움)")
+    @Test
+    void ignoresActivitiesBeforeLoading() {
+        // Given
+        given(articleRepository.findActivitiesCreatedAfter(any(LocalDateTime.class), anyInt())).willReturn(List.of());
+        // When
+        sut.recordView(1L);
+        // Then
+        assertThat(sut.getTopArticleIds(0, 10)).isEmpty();
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.times;
 
 @DisplayName("비지니스 로직 - 회원")
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +51,37 @@ class UserAccountServiceTest {
         then(userAccountRepository).should().findById(username);
     }
 
+    @DisplayName("한 번 조회한 회원은 캐시에서 반환")
+    @Test
+    void cachedUser() {
+        // Given
+        String username = "joo";
+        given(userAccountRepository.findById(username))
+                .willReturn(Optional.of(createUserAccount(username)));
+        // When
+        Optional<UserAccountDto> first = sut.searchUser(username);
+        Optional<UserAccountDto> second = sut.searchUser(username);
+        // Then
+        assertThat(second).isEqualTo(first);
+        then(userAccountRepository).should(times(1)).findById(username);
+    }
+
+    @DisplayName("캐시에서 제거된 회원은 다시 DB에서 조회")
+    @Test
+    void evictedUser() {
+        // Given
+        String username = "joo";
+        given(userAccountRepository.findById(username))
+                .willReturn(Optional.of(createUserAccount(username)));
+        sut.searchUser(username);
+        // When
+        sut.evictUser(username);
+        Optional<UserAccountDto> result = sut.searchUser(username);
+        // Then
+        assertThat(result).isPresent();
+        then(userAccountRepository).should(times(2)).findById(username);
+    }
+
     @DisplayName("회원 정보를 입력하면 새로운 회원 정보를 저장하고 해당 회원 데이터를 반환")
     @Test
     void saveUserAccountAndReturn() {
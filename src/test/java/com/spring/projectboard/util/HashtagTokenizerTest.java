@@ -0,0 +1,63 @@
+package com.spring.projectboard.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("해시태그 토크나이저")
+class HashtagTokenizerTest {
+
+    @DisplayName("영문 해시태그는 소문자로 정규화")
+    @Test
+    void caseFolding() {
+        // Given
+        String content = "#Java #JAVA #java #Spring부트";
+        // When
+        Set<String> hashtagNames = HashtagTokenizer.tokenize(content);
+        // Then
+        assertThat(hashtagNames).containsExactly("java", "spring부트");
+    }
+
+    @DisplayName("최대 길이를 넘는 해시태그는 잘라냄")
+    @Test
+    void maxLength() {
+        // Given
+        String longName = "가".repeat(HashtagTokenizer.MAX_LENGTH + 10);
+        // When
+        Set<String> hashtagNames = HashtagTokenizer.tokenize("#" + longName + " #java");
+        // Then
+        assertThat(hashtagNames).containsExactly("가".repeat(HashtagTokenizer.MAX_LENGTH), "java");
+    }
+
+    @DisplayName("검색어는 '#' 여부와 관계없이 단어마다 해시태그로 변환")
+    @Test
+    void keyword() {
+        // Given
+        String keyword = "#Java spring, #부트  ";
+        // When
+        Set<String> hashtagNames = HashtagTokenizer.tokenizeKeyword(keyword);
+        // Then
+        assertThat(hashtagNames).containsExactly("java", "spring", "부트");
+    }
+
+    @DisplayName("직접 구현한 스캐너와 정규식은 같은 결과를 반환")
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "", "#", "java#", "ja#va", "#java-spring", "#-java", "#_java_spring__",
+            "#java#spring#부트", "#java,#spring;#부트", "   #java,? #spring  ...  #부트 ",
+            "#Java#JAVA", "#ｊａｖａ #日本 #ㄱㄴ #java123", "아주 긴 글~~~~~~#java~~~~~~~#스프링~~~~~~~~"
+    })
+    void sameAsRegex(String content) {
+        // Given
+
+        // When
+        Set<String> actual = HashtagTokenizer.tokenize(content);
+        // Then
+        assertThat(actual).containsExactlyElementsOf(HashtagTokenizer.tokenizeWithRegex(content));
+    }
+}